@@ -13,7 +13,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Schema(description = "Consolidated summary of all financial data with totals in USD")
+@Schema(description = "Consolidated summary of all financial data with totals in USD, or in the requested currency")
 public class ConsolidatedSummaryResponse {
     
     @Schema(description = "Total capital saved across all countries in USD", example = "33666477.00")
@@ -0,0 +1,51 @@
+package com.savinco.financial.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Amounts to convert between currencies, all at the same exchange rates")
+public class ConversionBatchRequest {
+
+    public static final int MAX_CONVERSIONS = 10000;
+
+    @NotEmpty(message = "Conversions are required")
+    @Size(max = MAX_CONVERSIONS, message = "At most " + MAX_CONVERSIONS + " conversions per request")
+    @Valid
+    @Schema(description = "Conversions, answered in the same order", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Conversion> conversions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "One amount to convert")
+    public static class Conversion {
+
+        @NotBlank(message = "Source currency code is required")
+        @Schema(description = "Source currency code", example = "EUR", requiredMode = Schema.RequiredMode.REQUIRED)
+        private String from;
+
+        @NotBlank(message = "Target currency code is required")
+        @Schema(description = "Target currency code", example = "PEN", requiredMode = Schema.RequiredMode.REQUIRED)
+        private String to;
+
+        @NotNull(message = "Amount is required")
+        @Schema(description = "Amount in the source currency", example = "90.00", requiredMode = Schema.RequiredMode.REQUIRED)
+        private BigDecimal amount;
+    }
+}
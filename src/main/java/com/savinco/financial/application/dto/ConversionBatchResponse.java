@@ -0,0 +1,44 @@
+package com.savinco.financial.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Converted amounts, in the order of the request")
+public class ConversionBatchResponse {
+
+    @Schema(description = "Version of the exchange rates every conversion used", example = "3")
+    private long ratesVersion;
+
+    @Schema(description = "Converted amounts")
+    private List<Result> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "One converted amount")
+    public static class Result {
+
+        @Schema(description = "Source currency code", example = "EUR")
+        private String from;
+
+        @Schema(description = "Target currency code", example = "PEN")
+        private String to;
+
+        @Schema(description = "Amount in the source currency", example = "90.00")
+        private BigDecimal amount;
+
+        @Schema(description = "Amount in the target currency, rounded to 2 decimal places", example = "30.00")
+        private BigDecimal convertedAmount;
+    }
+}
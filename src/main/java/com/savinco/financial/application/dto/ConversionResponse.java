@@ -0,0 +1,35 @@
+package com.savinco.financial.application.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Amount converted between two currencies")
+public class ConversionResponse {
+
+    @Schema(description = "Source currency code", example = "EUR")
+    private String from;
+
+    @Schema(description = "Target currency code", example = "PEN")
+    private String to;
+
+    @Schema(description = "Amount in the source currency", example = "90.00")
+    private BigDecimal amount;
+
+    @Schema(description = "Units of the target currency per unit of the source currency", example = "0.3333333333333333333333333333333333")
+    private BigDecimal rate;
+
+    @Schema(description = "Amount in the target currency, rounded to 2 decimal places", example = "30.00")
+    private BigDecimal convertedAmount;
+
+    @Schema(description = "Version of the exchange rates the conversion used", example = "3")
+    private long ratesVersion;
+}
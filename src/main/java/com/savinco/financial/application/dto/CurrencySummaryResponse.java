@@ -0,0 +1,56 @@
+package com.savinco.financial.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Consolidated summary computed from the per-currency totals, with amounts in USD")
+public class CurrencySummaryResponse {
+
+    @Schema(description = "Total capital saved across all currencies in USD", example = "33666477.00")
+    private BigDecimal totalCapitalSaved;
+
+    @Schema(description = "Total capital loaned across all currencies in USD", example = "274878091.00")
+    private BigDecimal totalCapitalLoaned;
+
+    @Schema(description = "Total profits generated across all currencies in USD", example = "39581411.00")
+    private BigDecimal totalProfitsGenerated;
+
+    @Schema(description = "Grand total (totalCapitalSaved + totalCapitalLoaned + totalProfitsGenerated) in USD", example = "348125979.00")
+    private BigDecimal grandTotal;
+
+    @Schema(description = "Totals breakdown by source currency")
+    private List<CurrencyTotals> byCurrency;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Totals of the countries reporting in one currency")
+    public static class CurrencyTotals {
+
+        @Schema(description = "Currency code", example = "EUR")
+        private String currencyCode;
+
+        @Schema(description = "Number of countries reporting in this currency", example = "1")
+        private long countries;
+
+        @Schema(description = "Capital saved in USD", example = "1111111.11")
+        private BigDecimal capitalSaved;
+
+        @Schema(description = "Capital loaned in USD", example = "5555555.56")
+        private BigDecimal capitalLoaned;
+
+        @Schema(description = "Profits generated in USD", example = "555555.56")
+        private BigDecimal profitsGenerated;
+    }
+}
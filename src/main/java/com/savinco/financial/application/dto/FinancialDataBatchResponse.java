@@ -0,0 +1,54 @@
+package com.savinco.financial.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk financial data ingestion, with one result per submitted row")
+public class FinancialDataBatchResponse {
+
+    @Schema(description = "Number of rows read from the payload", example = "3")
+    private int received;
+
+    @Schema(description = "Number of rows inserted", example = "2")
+    private int created;
+
+    @Schema(description = "Number of rows rejected", example = "1")
+    private int rejected;
+
+    @Schema(description = "Per-row results in payload order")
+    private List<RowResult> results;
+
+    public enum RowStatus {
+        CREATED,
+        REJECTED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Result for a single submitted row")
+    public static class RowResult {
+
+        @Schema(description = "Zero-based position of the row in the payload", example = "0")
+        private int index;
+
+        @Schema(description = "Country code of the row, when readable", example = "ESP")
+        private String countryCode;
+
+        @Schema(description = "Row outcome", example = "CREATED")
+        private RowStatus status;
+
+        @Schema(description = "Reason the row was rejected", example = "Financial data already exists for country: ESP")
+        private String message;
+    }
+}
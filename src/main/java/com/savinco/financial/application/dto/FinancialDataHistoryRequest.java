@@ -0,0 +1,27 @@
+package com.savinco.financial.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Period range (inclusive) for financial data history queries")
+public class FinancialDataHistoryRequest {
+
+    @NotBlank(message = "From period is required")
+    @Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "From period must have format YYYY-MM")
+    @Schema(description = "First month of the range (YYYY-MM)", example = "2025-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String from;
+
+    @NotBlank(message = "To period is required")
+    @Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "To period must have format YYYY-MM")
+    @Schema(description = "Last month of the range (YYYY-MM)", example = "2025-12", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String to;
+}
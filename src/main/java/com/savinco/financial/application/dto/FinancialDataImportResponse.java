@@ -0,0 +1,52 @@
+package com.savinco.financial.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a CSV financial data import, with throughput and the rejected rows")
+public class FinancialDataImportResponse {
+
+    @Schema(description = "Number of data rows read from the file", example = "4")
+    private long received;
+
+    @Schema(description = "Number of rows written (created or replaced)", example = "3")
+    private long imported;
+
+    @Schema(description = "Number of rows rejected", example = "1")
+    private long rejected;
+
+    @Schema(description = "Wall-clock time of the import in milliseconds, including commit", example = "120")
+    private long elapsedMillis;
+
+    @Schema(description = "Data rows processed per second", example = "33333")
+    private long rowsPerSecond;
+
+    @Schema(description = "Rejected rows in file order; capped, so it may hold fewer entries than 'rejected'")
+    private List<Reject> rejects;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "A row that was not imported")
+    public static class Reject {
+
+        @Schema(description = "One-based position of the row after the header", example = "4")
+        private long row;
+
+        @Schema(description = "Country code of the row, when present", example = "NPL")
+        private String countryCode;
+
+        @Schema(description = "Reason the row was rejected", example = "Country not found with code: NPL")
+        private String message;
+    }
+}
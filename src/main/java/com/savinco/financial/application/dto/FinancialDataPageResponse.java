@@ -0,0 +1,24 @@
+package com.savinco.financial.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A page of financial data records ordered by country code")
+public class FinancialDataPageResponse {
+
+    @Schema(description = "Financial data records in this page")
+    private List<FinancialDataResponse> items;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page; null when this is the last page",
+            example = "RVNQOjI")
+    private String next;
+}
@@ -1,6 +1,7 @@
 package com.savinco.financial.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,4 +41,8 @@ public class FinancialDataResponse {
     @Schema(description = "Total amount in original currency (capitalSaved + capitalLoaned + profitsGenerated)", example = "6500000.00")
     @JsonFormat(shape = JsonFormat.Shape.NUMBER, pattern = "#0.00")
     private BigDecimal totalInUSD;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
 }
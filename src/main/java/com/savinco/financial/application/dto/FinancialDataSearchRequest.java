@@ -0,0 +1,54 @@
+package com.savinco.financial.application.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pagination and filter parameters for listing financial data")
+public class FinancialDataSearchRequest {
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit cannot exceed 500")
+    @Schema(description = "Maximum number of records to return (1-500)", example = "50", defaultValue = "50")
+    private Integer limit;
+
+    @Schema(description = "Opaque cursor returned as 'next' by the previous page")
+    private String after;
+
+    @Pattern(regexp = "[A-Z]{3}", message = "Currency code must be 3 uppercase letters")
+    @Schema(description = "Only return records in this currency", example = "EUR")
+    private String currencyCode;
+
+    @DecimalMin(value = "0.0", message = "Minimum capital saved must be non-negative")
+    @Schema(description = "Minimum capital saved (inclusive, original currency)", example = "1000000.00")
+    private BigDecimal minCapitalSaved;
+
+    @Schema(description = "Maximum capital saved (inclusive, original currency)", example = "5000000.00")
+    private BigDecimal maxCapitalSaved;
+
+    @DecimalMin(value = "0.0", message = "Minimum capital loaned must be non-negative")
+    @Schema(description = "Minimum capital loaned (inclusive, original currency)")
+    private BigDecimal minCapitalLoaned;
+
+    @Schema(description = "Maximum capital loaned (inclusive, original currency)")
+    private BigDecimal maxCapitalLoaned;
+
+    @DecimalMin(value = "0.0", message = "Minimum profits generated must be non-negative")
+    @Schema(description = "Minimum profits generated (inclusive, original currency)")
+    private BigDecimal minProfitsGenerated;
+
+    @Schema(description = "Maximum profits generated (inclusive, original currency)")
+    private BigDecimal maxProfitsGenerated;
+}
@@ -0,0 +1,43 @@
+package com.savinco.financial.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Monthly snapshot of a country's financial data in original currency")
+public class FinancialDataSnapshotResponse {
+
+    @Schema(description = "Country code", example = "ESP")
+    private String countryCode;
+
+    @Schema(description = "Month of the snapshot (YYYY-MM)", example = "2025-06")
+    private String period;
+
+    @Schema(description = "Original currency code", example = "EUR")
+    private String originalCurrency;
+
+    @Schema(description = "Capital saved in original currency", example = "1000000.00")
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER, pattern = "#0.00")
+    private BigDecimal capitalSaved;
+
+    @Schema(description = "Capital loaned in original currency", example = "5000000.00")
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER, pattern = "#0.00")
+    private BigDecimal capitalLoaned;
+
+    @Schema(description = "Profits generated in original currency", example = "500000.00")
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER, pattern = "#0.00")
+    private BigDecimal profitsGenerated;
+
+    @Schema(description = "When the snapshot was last written")
+    private LocalDateTime recordedAt;
+}
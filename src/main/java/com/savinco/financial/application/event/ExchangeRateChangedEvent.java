@@ -0,0 +1,11 @@
+package com.savinco.financial.application.event;
+
+import com.savinco.financial.domain.model.CurrencyCode;
+
+/**
+ * The exchange rate of the given currency was set, either by creating the currency or by updating its rate,
+ * or dropped by deleting the currency.
+ * Published inside the writing transaction; listeners that read the new rate should run after commit.
+ */
+public record ExchangeRateChangedEvent(CurrencyCode currencyCode) {
+}
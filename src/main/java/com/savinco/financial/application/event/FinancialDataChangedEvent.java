@@ -0,0 +1,20 @@
+package com.savinco.financial.application.event;
+
+import java.util.List;
+
+import com.savinco.financial.domain.model.CountryCode;
+
+/**
+ * Financial data of the given countries was created, updated or deleted.
+ * Published inside the writing transaction; listeners that read the new state should run after commit.
+ */
+public record FinancialDataChangedEvent(List<CountryCode> countryCodes) {
+
+    public FinancialDataChangedEvent {
+        countryCodes = List.copyOf(countryCodes);
+    }
+
+    public static FinancialDataChangedEvent of(CountryCode countryCode) {
+        return new FinancialDataChangedEvent(List.of(countryCode));
+    }
+}
@@ -13,6 +13,8 @@ import com.savinco.financial.domain.model.CurrencyCode;
 import com.savinco.financial.domain.repository.CountryRepository;
 import com.savinco.financial.domain.repository.CurrencyRepository;
 import com.savinco.financial.domain.repository.FinancialDataRepository;
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.domain.repository.ReferenceDataCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,8 @@ public class CountryService {
     private final CountryRepository repository;
     private final CurrencyRepository currencyRepository;
     private final FinancialDataRepository financialDataRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final DataVersion dataVersion;
 
     @Transactional
     public Country create(String code, String name, String currencyCode) {
@@ -56,14 +60,18 @@ public class CountryService {
 
         // Save
         Country saved = repository.save(country);
-        log.info("Country created successfully: code={}, id={}", code, saved.getId().getValue());
+        referenceDataCache.invalidateCountry(countryCode);
+        dataVersion.bump();
+        log.debug("Country created successfully: code={}, id={}", code, saved.getId().getValue());
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Country> findAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Country findByCode(String code) {
         log.debug("Finding country by code: {}", code);
         CountryCode countryCode = new CountryCode(code);
@@ -94,7 +102,9 @@ public class CountryService {
 
         // Delete
         repository.deleteById(country.getId().getValue());
-        log.info("Country deleted successfully: code={}, id={}", code, country.getId().getValue());
+        referenceDataCache.invalidateCountry(countryCode);
+        dataVersion.bump();
+        log.debug("Country deleted successfully: code={}, id={}", code, country.getId().getValue());
     }
 }
 
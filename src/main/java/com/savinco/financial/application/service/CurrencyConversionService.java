@@ -0,0 +1,82 @@
+package com.savinco.financial.application.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.savinco.financial.application.dto.ConversionBatchRequest;
+import com.savinco.financial.application.dto.ConversionBatchResponse;
+import com.savinco.financial.application.dto.ConversionResponse;
+import com.savinco.financial.domain.model.CrossRateMatrix;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Converts amounts between any two currencies with the cross rates of the current
+ * {@link ExchangeRateTable}. The matrix is derived once per published table, so it is only
+ * rebuilt after a rate changes, and no conversion touches the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurrencyConversionService {
+
+    private final CurrencyConverterService currencyConverter;
+
+    public ConversionResponse convert(String from, String to, BigDecimal amount) {
+        ExchangeRateTable rates = currencyConverter.rates();
+        ExchangeRateTable.Rate source = rateOf(rates, from);
+        ExchangeRateTable.Rate target = rateOf(rates, to);
+        CrossRateMatrix crossRates = rates.crossRates();
+        return ConversionResponse.builder()
+            .from(from)
+            .to(to)
+            .amount(amount)
+            .rate(crossRates.rate(source, target))
+            .convertedAmount(crossRates.convert(source, target, amount))
+            .ratesVersion(rates.getVersion())
+            .build();
+    }
+
+    /**
+     * Converts every amount at the same rates; fails as a whole when any currency is unknown.
+     */
+    public ConversionBatchResponse convertAll(List<ConversionBatchRequest.Conversion> conversions) {
+        ExchangeRateTable rates = currencyConverter.rates();
+        CrossRateMatrix crossRates = rates.crossRates();
+        // Batches usually repeat a few codes; look each one up once
+        Map<String, ExchangeRateTable.Rate> byCode = new HashMap<>();
+        List<ConversionBatchResponse.Result> results = new ArrayList<>(conversions.size());
+        for (ConversionBatchRequest.Conversion conversion : conversions) {
+            ExchangeRateTable.Rate source = byCode.computeIfAbsent(conversion.getFrom(), code -> rateOf(rates, code));
+            ExchangeRateTable.Rate target = byCode.computeIfAbsent(conversion.getTo(), code -> rateOf(rates, code));
+            results.add(ConversionBatchResponse.Result.builder()
+                .from(conversion.getFrom())
+                .to(conversion.getTo())
+                .amount(conversion.getAmount())
+                .convertedAmount(crossRates.convert(source, target, conversion.getAmount()))
+                .build());
+        }
+        log.debug("Converted batch: conversions={}, ratesVersion={}", results.size(), rates.getVersion());
+        return ConversionBatchResponse.builder()
+            .ratesVersion(rates.getVersion())
+            .results(results)
+            .build();
+    }
+
+    private static ExchangeRateTable.Rate rateOf(ExchangeRateTable rates, String code) {
+        ExchangeRateTable.Rate rate = rates.find(new CurrencyCode(code));
+        if (rate == null) {
+            log.warn("Conversion failed: currency not found with code={}", code);
+            throw new IllegalStateException("Currency not found with code: " + code);
+        }
+        return rate;
+    }
+}
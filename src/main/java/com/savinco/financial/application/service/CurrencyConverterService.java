@@ -1,17 +1,74 @@
 package com.savinco.financial.application.service;
 
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
 import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FixedPointRate;
+import com.savinco.financial.domain.model.Money;
+import com.savinco.financial.domain.repository.CurrencyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Converts amounts to USD at the rates of an {@link ExchangeRateTable}.
+ *
+ * The table is an immutable snapshot published atomically: it is loaded at startup and rebuilt
+ * from the committed currencies after every rate change, before any other after-commit
+ * listener runs. Reading it takes no lock. A computation that converts several amounts takes
+ * one snapshot with {@link #rates()} and passes it to every conversion, so it never mixes rates
+ * of different moments. Currencies missing from the snapshot (created behind the services'
+ * back) are converted at the rate they carry.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class CurrencyConverterService {
 
+    private final ExchangeRateHistoryService exchangeRateHistory;
+    private final CurrencyRepository currencyRepository;
+
+    private final Object lock = new Object();
+
+    private volatile ExchangeRateTable rates = ExchangeRateTable.empty();
+
+    /**
+     * The current rate snapshot.
+     */
+    public ExchangeRateTable rates() {
+        return rates;
+    }
+
+    /**
+     * Discards the rate snapshot and reloads it from the database.
+     */
+    // Ahead of the in-memory summary, which converts while it loads
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        synchronized (lock) {
+            rates = new ExchangeRateTable(rates.getVersion() + 1, currencyRepository.findAll());
+            log.info("Exchange rate table published: version={}, currencies={}", rates.getVersion(), rates.size());
+        }
+    }
+
+    // Ahead of the listeners that convert amounts after the same commit
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        rebuild();
+    }
+
     /**
      * Converts an amount from the given currency to USD (base currency).
      * 
@@ -31,6 +88,14 @@ public class CurrencyConverterService {
      * @throws IllegalArgumentException if currency is null
      */
     public BigDecimal convertToUSD(Currency currency, BigDecimal amount) {
+        return convertToUSD(rates, currency, amount);
+    }
+
+    /**
+     * Same as {@link #convertToUSD(Currency, BigDecimal)}, at the rate {@code rates} holds for
+     * the currency.
+     */
+    public BigDecimal convertToUSD(ExchangeRateTable rates, Currency currency, BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) == 0) {
             log.debug("Converting zero or null amount to USD");
             return BigDecimal.ZERO;
@@ -49,13 +114,83 @@ public class CurrencyConverterService {
 
         // Convert using exchange rate: 1 USD (base) = exchangeRateToBase units of destination currency
         // Formula: amountInUSD = amountInDestinationCurrency / exchangeRateToBase
-        BigDecimal exchangeRateToBase = currency.getExchangeRateToBase();
-        BigDecimal converted = amount.divide(exchangeRateToBase, 2, RoundingMode.HALF_UP);
-        
+        ExchangeRateTable.Rate rate = rates.find(currency.getCode());
+        BigDecimal exchangeRateToBase = rate != null ? rate.exchangeRateToBase() : currency.getExchangeRateToBase();
+        BigDecimal converted = convertFixedPoint(rate != null ? rate.fixedPoint() : currency.getFixedPointRate(), amount);
+        if (converted == null) {
+            converted = amount.divide(exchangeRateToBase, 2, RoundingMode.HALF_UP);
+        }
+
         log.debug("Converted {} {} to {} USD (rate: 1 USD = {} {})", 
             amount, currency.getCode().getValue(), converted, 
             exchangeRateToBase, currency.getCode().getValue());
         
         return converted;
     }
+
+    /**
+     * Converts an amount to USD minor units with {@code long} arithmetic only, rounding exactly
+     * like {@link #convertToUSD(ExchangeRateTable, Currency, BigDecimal)}.
+     *
+     * @throws ArithmeticException if the rate of the currency has no fixed-point form or the
+     *         conversion overflows; {@link #convertToUSD(Currency, BigDecimal)} handles those
+     */
+    public long convertToUSDMinorUnits(ExchangeRateTable rates, Currency currency, Money amount) {
+        if (currency.isBase()) {
+            return amount.getMinorUnits();
+        }
+        ExchangeRateTable.Rate snapshot = rates.find(currency.getCode());
+        FixedPointRate rate = snapshot != null ? snapshot.fixedPoint() : currency.getFixedPointRate();
+        if (rate == null) {
+            throw new ArithmeticException("Exchange rate of " + currency.getCode().getValue() + " has no fixed-point form");
+        }
+        return rate.toBaseMinorUnits(amount.getMinorUnits());
+    }
+
+    /**
+     * Converts an amount to USD at the rate the currency had at {@code asOf}, with the same
+     * formula and rounding as {@link #convertToUSD(Currency, BigDecimal)}. The rate comes from
+     * the in-memory exchange rate index, so no query is issued.
+     *
+     * @throws IllegalArgumentException if currency is null or had no exchange rate at {@code asOf}
+     */
+    public BigDecimal convertToUSD(Currency currency, BigDecimal amount, LocalDateTime asOf) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        if (currency == null) {
+            log.error("Currency conversion failed: currency is null");
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+
+        // The base currency rate is always 1.00
+        if (currency.isBase()) {
+            return amount.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal exchangeRateToBase = exchangeRateHistory.findRateAsOf(currency.getCode(), asOf)
+            .orElseThrow(() -> {
+                log.warn("Currency conversion failed: no exchange rate for currency={} as of {}",
+                    currency.getCode().getValue(), asOf);
+                return new IllegalArgumentException(
+                    "No exchange rate for currency " + currency.getCode().getValue() + " as of " + asOf);
+            });
+        return amount.divide(exchangeRateToBase, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Replaces the BigDecimal division, the costliest step of a conversion, with integer
+     * arithmetic; null when the amount or the rate has no fixed-point form or it overflows.
+     */
+    private static BigDecimal convertFixedPoint(FixedPointRate rate, BigDecimal amount) {
+        if (rate == null) {
+            return null;
+        }
+        try {
+            return Money.toBigDecimal(rate.toBaseMinorUnits(Money.minorUnitsOf(amount)));
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
 }
@@ -3,14 +3,18 @@ package com.savinco.financial.application.service;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
 import com.savinco.financial.domain.model.Currency;
 import com.savinco.financial.domain.model.CurrencyCode;
 import com.savinco.financial.domain.model.CurrencyPrimitives;
 import com.savinco.financial.domain.repository.CurrencyRepository;
 import com.savinco.financial.domain.repository.CountryRepository;
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.domain.repository.ReferenceDataCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +26,10 @@ public class CurrencyService {
 
     private final CurrencyRepository repository;
     private final CountryRepository countryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final DataVersion dataVersion;
+    private final ExchangeRateHistoryService exchangeRateHistory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Currency create(String code, String name, Boolean isBase, BigDecimal exchangeRateToBase) {
@@ -71,11 +79,16 @@ public class CurrencyService {
 
         // Save
         Currency saved = repository.save(currency);
-        log.info("Currency created successfully: code={}, id={}, isBase={}", 
+        exchangeRateHistory.record(saved);
+        referenceDataCache.invalidateCurrency(saved.getCode());
+        eventPublisher.publishEvent(new ExchangeRateChangedEvent(saved.getCode()));
+        dataVersion.bump();
+        log.debug("Currency created successfully: code={}, id={}, isBase={}", 
             code, saved.getId().getValue(), saved.isBase());
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Currency> findAll() {
         log.debug("Finding all currencies");
         List<Currency> currencies = repository.findAll();
@@ -83,12 +96,14 @@ public class CurrencyService {
         return currencies;
     }
 
+    @Transactional(readOnly = true)
     public Currency findByCode(String code) {
         CurrencyCode currencyCode = new CurrencyCode(code);
         return repository.findByCode(currencyCode)
             .orElseThrow(() -> new IllegalStateException("Currency not found with code: " + code));
     }
 
+    @Transactional(readOnly = true)
     public Currency getBaseCurrency() {
         log.debug("Finding base currency");
         Currency currency = repository.findBaseCurrency()
@@ -102,15 +117,36 @@ public class CurrencyService {
 
     @Transactional
     public Currency updateExchangeRate(String code, BigDecimal newRate) {
+        return updateExchangeRate(code, newRate, null);
+    }
+
+    /**
+     * Updates the exchange rate. When {@code precondition} is given the stored version must match
+     * it; this is checked before the domain validation. The save itself is versioned, so a
+     * concurrent update fails with an optimistic locking error instead of being overwritten.
+     *
+     * @throws PreconditionFailedException when the stored version does not match
+     */
+    @Transactional
+    public Currency updateExchangeRate(String code, BigDecimal newRate, VersionPrecondition precondition) {
         CurrencyCode currencyCode = new CurrencyCode(code);
         Currency currency = repository.findByCode(currencyCode)
             .orElseThrow(() -> new IllegalStateException("Currency not found with code: " + code));
+        if (precondition != null && !precondition.matches(currency.getVersion())) {
+            log.warn("Exchange rate update failed: precondition failed for currency={}, version={}", code, currency.getVersion());
+            throw new PreconditionFailedException("Precondition failed: currency " + code + " was modified");
+        }
 
         // Update exchange rate (validates in domain)
         currency.updateExchangeRate(newRate);
 
         // Save
-        return repository.save(currency);
+        Currency saved = repository.save(currency);
+        exchangeRateHistory.record(saved);
+        referenceDataCache.invalidateCurrency(currencyCode);
+        eventPublisher.publishEvent(new ExchangeRateChangedEvent(currencyCode));
+        dataVersion.bump();
+        return saved;
     }
 
     @Transactional
@@ -143,7 +179,10 @@ public class CurrencyService {
 
         // Delete
         repository.deleteById(currency.getId().getValue());
-        log.info("Currency deleted successfully: code={}, id={}", code, currency.getId().getValue());
+        referenceDataCache.invalidateCurrency(currencyCode);
+        eventPublisher.publishEvent(new ExchangeRateChangedEvent(currencyCode));
+        dataVersion.bump();
+        log.debug("Currency deleted successfully: code={}, id={}", code, currency.getId().getValue());
     }
 }
 
@@ -0,0 +1,103 @@
+package com.savinco.financial.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.ExchangeRatePeriod;
+import com.savinco.financial.domain.repository.ExchangeRateHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Effective-dated exchange rates.
+ *
+ * Every rate a currency takes is recorded as a validity interval in the caller's transaction.
+ * Reads go to an in-memory index that maps each currency to its rates keyed by the start of
+ * their interval, so "rate as of" is a floor lookup and never queries the history table. The
+ * index is loaded at startup and the changed currency is reloaded after each committed rate
+ * change; readers always see an immutable index.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateHistoryService {
+
+    private final ExchangeRateHistoryRepository repository;
+
+    private final Object lock = new Object();
+
+    private volatile Map<String, NavigableMap<LocalDateTime, BigDecimal>> index = Map.of();
+
+    /**
+     * Records the current rate of {@code currency} as in effect from now on.
+     */
+    @Transactional
+    public void record(Currency currency) {
+        LocalDateTime validFrom = LocalDateTime.now();
+        repository.open(currency.getCode(), currency.getExchangeRateToBase(), validFrom);
+        log.debug("Exchange rate recorded: currencyCode={}, rate={}, validFrom={}",
+            currency.getCode().getValue(), currency.getExchangeRateToBase(), validFrom);
+    }
+
+    /**
+     * Rate of the currency in effect at {@code asOf}, or empty when the currency had no rate yet.
+     */
+    public Optional<BigDecimal> findRateAsOf(CurrencyCode currencyCode, LocalDateTime asOf) {
+        NavigableMap<LocalDateTime, BigDecimal> rates = index.get(currencyCode.getValue());
+        if (rates == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDateTime, BigDecimal> entry = rates.floorEntry(asOf);
+        return entry != null ? Optional.of(entry.getValue()) : Optional.empty();
+    }
+
+    /**
+     * Discards the in-memory index and reloads it from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            Map<String, NavigableMap<LocalDateTime, BigDecimal>> rebuilt = new HashMap<>();
+            List<ExchangeRatePeriod> periods = repository.findAll();
+            periods.forEach(period -> rebuilt
+                .computeIfAbsent(period.getCurrencyCode().getValue(), code -> new TreeMap<>())
+                .put(period.getValidFrom(), period.getExchangeRateToBase()));
+            rebuilt.replaceAll((code, rates) -> Collections.unmodifiableNavigableMap(rates));
+            index = Map.copyOf(rebuilt);
+            log.info("Exchange rate index rebuilt: currencies={}, periods={}", rebuilt.size(), periods.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        synchronized (lock) {
+            // Re-read the committed periods, so listeners running out of commit order still converge
+            NavigableMap<LocalDateTime, BigDecimal> rates = new TreeMap<>();
+            repository.findByCurrencyCode(event.currencyCode())
+                .forEach(period -> rates.put(period.getValidFrom(), period.getExchangeRateToBase()));
+
+            Map<String, NavigableMap<LocalDateTime, BigDecimal>> updated = new HashMap<>(index);
+            updated.put(event.currencyCode().getValue(), Collections.unmodifiableNavigableMap(rates));
+            index = Map.copyOf(updated);
+            log.debug("Exchange rate index updated: currencyCode={}, periods={}",
+                event.currencyCode().getValue(), rates.size());
+        }
+    }
+}
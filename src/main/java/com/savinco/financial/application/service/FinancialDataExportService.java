@@ -0,0 +1,256 @@
+package com.savinco.financial.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FinancialDataExportRow;
+import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes every financial data row to an output stream as CSV or newline-delimited JSON.
+ *
+ * Rows are read from a database cursor and written one at a time, so the heap used by an
+ * export does not depend on the number of rows. Currencies are loaded once per export and
+ * USD columns are converted in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialDataExportService {
+
+    private static final String[] COLUMNS = {
+        "countryCode", "countryName", "currencyCode", "capitalSaved", "capitalLoaned", "profitsGenerated"
+    };
+    private static final String[] USD_COLUMNS = {
+        "capitalSavedUSD", "capitalLoanedUSD", "profitsGeneratedUSD"
+    };
+
+    private final FinancialDataRepository repository;
+    private final CurrencyRepository currencyRepository;
+    private final CurrencyConverterService currencyConverter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${financial.export.fetch-size:500}")
+    private int fetchSize;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@code value} is not a supported format
+         */
+        public static Format of(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value + " (expected csv or ndjson)");
+            }
+        }
+    }
+
+    /**
+     * Writes all rows to {@code out}, ordered by country code. The stream is flushed but not
+     * closed.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, boolean includeUsd, OutputStream out) throws IOException {
+        log.debug("Starting financial data export: format={}, includeUsd={}, fetchSize={}", format, includeUsd, fetchSize);
+        Map<String, Currency> currencies = includeUsd
+            ? currencyRepository.findAll().stream()
+                .collect(Collectors.toMap(c -> c.getCode().getValue(), Function.identity()))
+            : Map.of();
+        // One rate snapshot for the whole export
+        ExchangeRateTable rates = currencyConverter.rates();
+
+        RowWriter writer = format == Format.CSV
+            ? new CsvRowWriter(out, includeUsd)
+            : new NdjsonRowWriter(objectMapper, out, includeUsd);
+        long[] count = {0};
+        try {
+            writer.start();
+            repository.exportAll(fetchSize, row -> {
+                try {
+                    writer.write(row, includeUsd ? toUsd(row, currencies, rates) : null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; there is nobody left to report an error to
+            log.warn("Financial data export aborted: rowsWritten={}, error={}", count[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.debug("Financial data export finished: format={}, rows={}", format, count[0]);
+        return count[0];
+    }
+
+    private BigDecimal[] toUsd(FinancialDataExportRow row, Map<String, Currency> currencies, ExchangeRateTable rates) {
+        Currency currency = currencies.get(row.getCurrencyCode());
+        if (currency == null) {
+            throw new IllegalStateException("Currency not found with code: " + row.getCurrencyCode());
+        }
+        return new BigDecimal[] {
+            currencyConverter.convertToUSD(rates, currency, row.getCapitalSaved()),
+            currencyConverter.convertToUSD(rates, currency, row.getCapitalLoaned()),
+            currencyConverter.convertToUSD(rates, currency, row.getProfitsGenerated())
+        };
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        /**
+         * @param usd converted amounts in column order, or null when USD columns are not exported
+         */
+        void write(FinancialDataExportRow row, BigDecimal[] usd) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header line. Only text fields are quoted, and only when needed.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final boolean includeUsd;
+
+        CsvRowWriter(OutputStream out, boolean includeUsd) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.includeUsd = includeUsd;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            if (includeUsd) {
+                writer.write(',');
+                writer.write(String.join(",", USD_COLUMNS));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(FinancialDataExportRow row, BigDecimal[] usd) throws IOException {
+            writer.write(row.getCountryCode());
+            writer.write(',');
+            writeText(row.getCountryName());
+            writer.write(',');
+            writer.write(row.getCurrencyCode());
+            writeAmount(row.getCapitalSaved());
+            writeAmount(row.getCapitalLoaned());
+            writeAmount(row.getProfitsGenerated());
+            if (usd != null) {
+                for (BigDecimal amount : usd) {
+                    writeAmount(amount);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeAmount(BigDecimal amount) throws IOException {
+            writer.write(',');
+            writer.write(amount.toPlainString());
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * One JSON object per line, amounts written as plain decimal numbers.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final boolean includeUsd;
+
+        NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out, boolean includeUsd) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+            this.includeUsd = includeUsd;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void write(FinancialDataExportRow row, BigDecimal[] usd) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS[0], row.getCountryCode());
+            generator.writeStringField(COLUMNS[1], row.getCountryName());
+            generator.writeStringField(COLUMNS[2], row.getCurrencyCode());
+            generator.writeNumberField(COLUMNS[3], row.getCapitalSaved());
+            generator.writeNumberField(COLUMNS[4], row.getCapitalLoaned());
+            generator.writeNumberField(COLUMNS[5], row.getProfitsGenerated());
+            if (includeUsd) {
+                for (int i = 0; i < USD_COLUMNS.length; i++) {
+                    generator.writeNumberField(USD_COLUMNS[i], usd[i]);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.savinco.financial.application.service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.savinco.financial.application.dto.FinancialDataHistoryRequest;
+import com.savinco.financial.application.dto.FinancialDataSnapshotResponse;
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.model.FinancialDataSnapshot;
+import com.savinco.financial.domain.repository.FinancialDataHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Monthly history of financial data. Writes happen in the caller's transaction, so a snapshot
+ * exists exactly when the financial data change it records was committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialDataHistoryService {
+
+    private final FinancialDataHistoryRepository repository;
+
+    /**
+     * Records the given rows as the snapshot of the current month.
+     */
+    @Transactional
+    public void record(List<FinancialData> financialData) {
+        YearMonth period = YearMonth.now();
+        repository.record(financialData.stream()
+            .map(data -> FinancialDataSnapshot.of(data, period))
+            .toList());
+        log.debug("Recorded {} financial data snapshots for period={}", financialData.size(), period);
+    }
+
+    public List<FinancialDataSnapshotResponse> findByPeriodRange(FinancialDataHistoryRequest request) {
+        YearMonth from = parsePeriod(request.getFrom());
+        YearMonth to = parsePeriod(request.getTo());
+        validateRange(from, to);
+        log.debug("Finding financial data history: from={}, to={}", from, to);
+        return toResponses(repository.findByPeriodRange(from, to));
+    }
+
+    public List<FinancialDataSnapshotResponse> findCountryHistory(String countryCode, FinancialDataHistoryRequest request) {
+        CountryCode code = new CountryCode(countryCode);
+        YearMonth from = parsePeriod(request.getFrom());
+        YearMonth to = parsePeriod(request.getTo());
+        validateRange(from, to);
+        log.debug("Finding financial data history: countryCode={}, from={}, to={}", countryCode, from, to);
+        return toResponses(repository.findByCountryAndPeriodRange(code, from, to));
+    }
+
+    public List<FinancialDataSnapshotResponse> findLatestPerCountry(String asOf) {
+        YearMonth period = asOf != null ? parsePeriod(asOf) : YearMonth.now();
+        log.debug("Finding latest financial data snapshot per country: asOf={}", period);
+        return toResponses(repository.findLatestPerCountry(period));
+    }
+
+    private void validateRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            log.warn("Invalid period range: from={}, to={}", from, to);
+            throw new IllegalArgumentException("Invalid period range: from " + from + " is after to " + to);
+        }
+    }
+
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            log.warn("Invalid period: {}", period);
+            throw new IllegalArgumentException("Invalid period: " + period + ". Expected format YYYY-MM");
+        }
+    }
+
+    private List<FinancialDataSnapshotResponse> toResponses(List<FinancialDataSnapshot> snapshots) {
+        return snapshots.stream()
+            .map(snapshot -> FinancialDataSnapshotResponse.builder()
+                .countryCode(snapshot.getCountryCode().getValue())
+                .period(snapshot.getPeriod().toString())
+                .originalCurrency(snapshot.getCurrencyCode().getValue())
+                .capitalSaved(snapshot.getCapitalSaved())
+                .capitalLoaned(snapshot.getCapitalLoaned())
+                .profitsGenerated(snapshot.getProfitsGenerated())
+                .recordedAt(snapshot.getRecordedAt())
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,226 @@
+package com.savinco.financial.application.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.savinco.financial.application.dto.FinancialDataBatchResponse;
+import com.savinco.financial.application.dto.FinancialDataBatchResponse.RowResult;
+import com.savinco.financial.application.dto.FinancialDataBatchResponse.RowStatus;
+import com.savinco.financial.application.dto.FinancialDataRequest;
+import com.savinco.financial.application.event.FinancialDataChangedEvent;
+import com.savinco.financial.domain.model.Country;
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.repository.CountryRepository;
+import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk ingestion of financial data.
+ *
+ * Countries, currencies and the set of countries that already have data are loaded once per
+ * batch, so validating a row costs no database round trip. Valid rows are inserted in chunks,
+ * each chunk in its own transaction, so a large load never holds one long transaction and a
+ * failing chunk does not roll back the ones before it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialDataIngestionService {
+
+    private final FinancialDataRepository repository;
+    private final FinancialDataHistoryService historyService;
+    private final CountryRepository countryRepository;
+    private final CurrencyRepository currencyRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataVersion dataVersion;
+
+    @Value("${financial.ingestion.chunk-size:500}")
+    private int chunkSize;
+
+    public FinancialDataBatchResponse ingest(Iterator<FinancialDataRequest> rows) {
+        log.debug("Starting financial data ingestion: chunkSize={}", chunkSize);
+        ReferenceSnapshot snapshot = loadSnapshot();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<RowResult> results = new ArrayList<>();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        while (true) {
+            FinancialDataRequest request;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                request = rows.next();
+            } catch (RuntimeException e) {
+                // The payload cannot be read past this point; report it and keep what was read so far
+                log.warn("Financial data ingestion stopped: unreadable row at index={}", index);
+                results.add(rejected(index, null, "Unreadable row: " + e.getMessage()));
+                break;
+            }
+
+            RowResult invalid = validate(index, request, snapshot);
+            if (invalid != null) {
+                results.add(invalid);
+            } else {
+                chunk.add(new PendingRow(index, toDomain(request, snapshot)));
+                snapshot.reserve(request.getCountryCode());
+            }
+            index++;
+
+            if (chunk.size() >= chunkSize) {
+                results.addAll(flush(chunk, transactionTemplate));
+                chunk.clear();
+            }
+        }
+        results.addAll(flush(chunk, transactionTemplate));
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+
+        int created = (int) results.stream().filter(r -> r.getStatus() == RowStatus.CREATED).count();
+        log.debug("Financial data ingestion finished: received={}, created={}, rejected={}",
+            index, created, results.size() - created);
+
+        return FinancialDataBatchResponse.builder()
+            .received(index)
+            .created(created)
+            .rejected(results.size() - created)
+            .results(results)
+            .build();
+    }
+
+    private ReferenceSnapshot loadSnapshot() {
+        Map<String, Country> countries = countryRepository.findAll().stream()
+            .collect(Collectors.toMap(c -> c.getCode().getValue(), Function.identity()));
+        Map<String, Currency> currencies = currencyRepository.findAll().stream()
+            .collect(Collectors.toMap(c -> c.getCode().getValue(), Function.identity()));
+        Set<String> taken = repository.findAllCountryCodes().stream()
+            .map(CountryCode::getValue)
+            .collect(Collectors.toCollection(HashSet::new));
+        return new ReferenceSnapshot(countries, currencies, taken);
+    }
+
+    private RowResult validate(int index, FinancialDataRequest request, ReferenceSnapshot snapshot) {
+        Set<ConstraintViolation<FinancialDataRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+            return rejected(index, request.getCountryCode(), "Validation failed: " + message);
+        }
+
+        Country country = snapshot.countries().get(request.getCountryCode());
+        if (country == null) {
+            return rejected(index, request.getCountryCode(), "Country not found with code: " + request.getCountryCode());
+        }
+        Currency currency = snapshot.currencies().get(request.getCurrencyCode());
+        if (currency == null) {
+            return rejected(index, request.getCountryCode(), "Currency not found with code: " + request.getCurrencyCode());
+        }
+        if (!country.isValidCurrency(currency)) {
+            return rejected(index, request.getCountryCode(),
+                "Currency " + request.getCurrencyCode() + " does not match country " + request.getCountryCode());
+        }
+        if (snapshot.taken().contains(request.getCountryCode())) {
+            return rejected(index, request.getCountryCode(),
+                "Financial data already exists for country: " + request.getCountryCode());
+        }
+
+        try {
+            toDomain(request, snapshot).validate();
+        } catch (IllegalArgumentException e) {
+            return rejected(index, request.getCountryCode(), e.getMessage());
+        }
+        return null;
+    }
+
+    private List<RowResult> flush(List<PendingRow> chunk, TransactionTemplate transactionTemplate) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<FinancialData> rows = chunk.stream().map(PendingRow::data).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.insertAll(rows);
+                historyService.record(rows);
+                eventPublisher.publishEvent(new FinancialDataChangedEvent(
+                    rows.stream().map(data -> data.getCountry().getCode()).toList()));
+                dataVersion.bump();
+            });
+        } catch (DataAccessException e) {
+            log.warn("Financial data ingestion chunk failed: rows={}, error={}", chunk.size(), e.getMessage());
+            return chunk.stream()
+                .map(row -> rejected(row.index(), countryCodeOf(row), "Chunk insert failed: " + e.getMostSpecificCause().getMessage()))
+                .toList();
+        }
+        log.debug("Financial data ingestion chunk committed: rows={}", chunk.size());
+        return chunk.stream()
+            .map(row -> RowResult.builder()
+                .index(row.index())
+                .countryCode(countryCodeOf(row))
+                .status(RowStatus.CREATED)
+                .build())
+            .toList();
+    }
+
+    private FinancialData toDomain(FinancialDataRequest request, ReferenceSnapshot snapshot) {
+        return new FinancialData(
+            snapshot.countries().get(request.getCountryCode()),
+            snapshot.currencies().get(request.getCurrencyCode()),
+            request.getCapitalSaved(),
+            request.getCapitalLoaned(),
+            request.getProfitsGenerated()
+        );
+    }
+
+    private static String countryCodeOf(PendingRow row) {
+        return row.data().getCountry().getCode().getValue();
+    }
+
+    private static RowResult rejected(int index, String countryCode, String message) {
+        return RowResult.builder()
+            .index(index)
+            .countryCode(countryCode)
+            .status(RowStatus.REJECTED)
+            .message(message)
+            .build();
+    }
+
+    private record PendingRow(int index, FinancialData data) {
+    }
+
+    /**
+     * Reference data for one ingestion run. Country codes are reserved as rows are accepted,
+     * so duplicates inside the same payload are rejected as well.
+     */
+    private record ReferenceSnapshot(Map<String, Country> countries,
+                                     Map<String, Currency> currencies,
+                                     Set<String> taken) {
+        void reserve(String countryCode) {
+            taken.add(countryCode);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.savinco.financial.application.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.savinco.financial.application.dto.ConsolidatedSummaryResponse;
+import com.savinco.financial.application.dto.FinancialDataPageResponse;
+import com.savinco.financial.application.dto.FinancialDataSearchRequest;
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
+import com.savinco.financial.application.event.FinancialDataChangedEvent;
+import com.savinco.financial.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent identical reads of the summary and of financial data pages, so a burst
+ * of dashboards refreshing at once costs one computation (and one round of queries) per
+ * distinct request instead of one per caller.
+ *
+ * Results are shared only while the computation runs; nothing is cached. After every committed
+ * change to financial data or exchange rates, requests join only computations started after it.
+ * Requests pinned to the primary by read-your-writes only join each other, never a computation
+ * that may be reading a lagging replica.
+ */
+@Service
+public class FinancialDataQueryCoalescer {
+
+    private final FinancialDataService financialDataService;
+    private final SingleFlight<SummaryQuery, ConsolidatedSummaryResponse> summaries;
+    private final SingleFlight<PageQuery, FinancialDataPageResponse> pages;
+
+    public FinancialDataQueryCoalescer(FinancialDataService financialDataService, MeterRegistry meterRegistry) {
+        this.financialDataService = financialDataService;
+        this.summaries = new SingleFlight<>("financial-data.summary", meterRegistry);
+        this.pages = new SingleFlight<>("financial-data.page", meterRegistry);
+    }
+
+    public ConsolidatedSummaryResponse getSummary(LocalDateTime asOf, String currencyCode) {
+        return summaries.execute(new SummaryQuery(asOf, currencyCode, ReadYourWritesContext.isPinned()),
+            () -> financialDataService.getSummary(asOf, currencyCode));
+    }
+
+    public FinancialDataPageResponse findPage(FinancialDataSearchRequest request) {
+        // Bound request parameters compare by value, so identical query strings share a computation
+        return pages.execute(new PageQuery(request, ReadYourWritesContext.isPinned()),
+            () -> financialDataService.findPage(request));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancialDataChanged(FinancialDataChangedEvent event) {
+        summaries.forgetAll();
+        pages.forgetAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        summaries.forgetAll();
+    }
+
+    private record SummaryQuery(LocalDateTime asOf, String currencyCode, boolean pinned) {
+    }
+
+    private record PageQuery(FinancialDataSearchRequest request, boolean pinned) {
+    }
+}
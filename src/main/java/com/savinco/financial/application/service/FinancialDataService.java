@@ -1,21 +1,36 @@
 package com.savinco.financial.application.service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.savinco.financial.application.dto.ConsolidatedSummaryResponse;
+import com.savinco.financial.application.dto.CurrencySummaryResponse;
+import com.savinco.financial.application.dto.FinancialDataPageResponse;
 import com.savinco.financial.application.dto.FinancialDataRequest;
 import com.savinco.financial.application.dto.FinancialDataResponse;
+import com.savinco.financial.application.dto.FinancialDataSearchRequest;
+import com.savinco.financial.application.event.FinancialDataChangedEvent;
+import com.savinco.financial.domain.model.ConsolidatedSummary;
 import com.savinco.financial.domain.model.Country;
 import com.savinco.financial.domain.model.CountryCode;
 import com.savinco.financial.domain.model.Currency;
 import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.CurrencyTotals;
+import com.savinco.financial.domain.model.ExchangeRateTable;
 import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.model.FinancialDataCursor;
+import com.savinco.financial.domain.model.FinancialDataFilter;
 import com.savinco.financial.domain.repository.CountryRepository;
 import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.CurrencyTotalsRepository;
+import com.savinco.financial.domain.repository.DataVersion;
 import com.savinco.financial.domain.repository.FinancialDataRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,10 +41,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FinancialDataService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final char CURSOR_SEPARATOR = ':';
+
     private final FinancialDataRepository repository;
     private final CountryRepository countryRepository;
     private final CurrencyRepository currencyRepository;
+    private final SummaryEngine summaryEngine;
+    private final JavaSummaryEngine pointInTimeSummaryEngine;
+    private final FinancialDataHistoryService historyService;
+    private final CurrencyTotalsRepository currencyTotalsRepository;
     private final CurrencyConverterService currencyConverter;
+    private final TargetCurrencySummaryService targetCurrencySummaries;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataVersion dataVersion;
 
     @Transactional
     public FinancialDataResponse create(FinancialDataRequest request) {
@@ -62,12 +87,6 @@ public class FinancialDataService {
             );
         }
 
-        // Check if country already exists
-        if (repository.existsByCountryCode(countryCode)) {
-            log.warn("Financial data creation failed: financial data already exists for country={}", request.getCountryCode());
-            throw new IllegalStateException("Financial data already exists for country: " + request.getCountryCode());
-        }
-
         // Create domain entity
         FinancialData financialData = new FinancialData(
             country,
@@ -80,23 +99,51 @@ public class FinancialDataService {
         // Validate domain rules
         financialData.validate();
 
-        // Save
-        FinancialData saved = repository.save(financialData);
-        log.info("Financial data created successfully: countryCode={}", request.getCountryCode());
+        // Insert unless the country already has data; one atomic statement, so concurrent creates cannot both succeed
+        FinancialData saved = repository.insertIfAbsent(financialData)
+            .orElseThrow(() -> {
+                log.warn("Financial data creation failed: financial data already exists for country={}", request.getCountryCode());
+                return new IllegalStateException("Financial data already exists for country: " + request.getCountryCode());
+            });
+        historyService.record(List.of(saved));
+        eventPublisher.publishEvent(FinancialDataChangedEvent.of(countryCode));
+        dataVersion.bump();
+        log.debug("Financial data created successfully: countryCode={}", request.getCountryCode());
 
         // Convert to USD and build response
         return buildResponse(saved);
     }
 
-    public List<FinancialDataResponse> findAll() {
-        log.debug("Finding all financial data");
-        List<FinancialDataResponse> response = repository.findAll().stream()
+    /**
+     * Returns one page of financial data using keyset pagination on (country code, id).
+     * 
+     * One extra row is fetched to know whether a next page exists, so page cost does not
+     * depend on how many rows precede the cursor.
+     */
+    @Transactional(readOnly = true)
+    public FinancialDataPageResponse findPage(FinancialDataSearchRequest request) {
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_PAGE_SIZE;
+        FinancialDataCursor after = request.getAfter() != null ? decodeCursor(request.getAfter()) : null;
+        log.debug("Finding financial data page: limit={}, after={}, currencyCode={}", 
+            limit, after, request.getCurrencyCode());
+
+        List<FinancialData> rows = repository.findPage(toFilter(request), after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<FinancialData> page = hasNext ? rows.subList(0, limit) : rows;
+
+        List<FinancialDataResponse> items = page.stream()
             .map(this::buildResponse)
             .toList();
-        log.debug("Found {} financial data records", response.size());
-        return response;
+        String next = hasNext ? encodeCursor(FinancialDataCursor.of(page.get(page.size() - 1))) : null;
+        log.debug("Found {} financial data records, hasNext={}", items.size(), hasNext);
+
+        return FinancialDataPageResponse.builder()
+            .items(items)
+            .next(next)
+            .build();
     }
 
+    @Transactional(readOnly = true)
     public FinancialDataResponse findByCountryCode(String countryCode) {
         log.debug("Finding financial data by country code: {}", countryCode);
         CountryCode code = new CountryCode(countryCode);
@@ -116,22 +163,47 @@ public class FinancialDataService {
         return buildResponse(financialData);
     }
 
+    /**
+     * Creates or replaces the financial data of a country (PUT semantics).
+     *
+     * Country and currency come from the reference data cache and the row is written with one
+     * upsert statement, so the existing row is never loaded and the result is not re-read.
+     */
     @Transactional
-    public FinancialDataResponse update(String countryCode, FinancialDataRequest request) {
-        log.debug("Updating financial data: countryCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
+    public UpsertOutcome upsert(String countryCode, FinancialDataRequest request) {
+        return upsert(countryCode, request, null);
+    }
+
+    /**
+     * Like {@link #upsert(String, FinancialDataRequest)}, but when {@code precondition} is given
+     * the data must already exist with a matching version. The version is checked before any
+     * validation, so a stale request fails fast, and the write itself only applies to that
+     * version, so a concurrent change in between also fails instead of being overwritten.
+     *
+     * @throws PreconditionFailedException when the stored version does not match
+     */
+    @Transactional
+    public UpsertOutcome upsert(String countryCode, FinancialDataRequest request, VersionPrecondition precondition) {
+        log.debug("Upserting financial data: countryCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
             countryCode, request.getCapitalSaved(), request.getCapitalLoaned(), request.getProfitsGenerated());
         
         // Validate country code from path
         CountryCode code = new CountryCode(countryCode);
+        Long expectedVersion = null;
+        if (precondition != null) {
+            expectedVersion = repository.findVersionByCountryCode(code)
+                .filter(precondition::matches)
+                .orElseThrow(() -> preconditionFailed(countryCode));
+        }
         Country country = countryRepository.findByCode(code)
             .orElseThrow(() -> {
-                log.warn("Financial data update failed: country not found with code={}", countryCode);
+                log.warn("Financial data upsert failed: country not found with code={}", countryCode);
                 return new IllegalStateException("Country not found with code: " + countryCode);
             });
 
         // Validate that country code in path matches body
         if (!countryCode.equals(request.getCountryCode())) {
-            log.warn("Financial data update failed: country code mismatch. path={}, body={}", 
+            log.warn("Financial data upsert failed: country code mismatch. path={}, body={}", 
                 countryCode, request.getCountryCode());
             throw new IllegalArgumentException(
                 "Country code in path (" + countryCode + ") does not match country code in body (" + request.getCountryCode() + ")"
@@ -142,109 +214,160 @@ public class FinancialDataService {
         CurrencyCode currencyCode = new CurrencyCode(request.getCurrencyCode());
         Currency currency = currencyRepository.findByCode(currencyCode)
             .orElseThrow(() -> {
-                log.warn("Financial data update failed: currency not found with code={}", request.getCurrencyCode());
+                log.warn("Financial data upsert failed: currency not found with code={}", request.getCurrencyCode());
                 return new IllegalStateException("Currency not found with code: " + request.getCurrencyCode());
             });
 
         // Validate currency matches country
         if (!country.isValidCurrency(currency)) {
-            log.warn("Financial data update failed: currency {} does not match country {}", 
+            log.warn("Financial data upsert failed: currency {} does not match country {}", 
                 currency.getCode().getValue(), country.getCode().getValue());
             throw new IllegalArgumentException(
                 "Currency " + currency.getCode().getValue() + " does not match country " + country.getCode().getValue()
             );
         }
 
-        // Check if country exists
-        FinancialData existingData = repository.findByCountryCode(code)
-            .orElseThrow(() -> {
-                log.warn("Financial data update failed: financial data not found for country={}", countryCode);
-                return new IllegalStateException("Financial data not found for country: " + countryCode);
-            });
-
-        // Create updated domain entity (preserving id and created timestamp)
-        // updatedAt will be set automatically by JPA @PreUpdate
-        FinancialData updatedData = new FinancialData(
-            existingData.getId(),
+        FinancialData financialData = new FinancialData(
             country,
             currency,
             request.getCapitalSaved(),
             request.getCapitalLoaned(),
-            request.getProfitsGenerated(),
-            new FinancialData.Timestamps(existingData.getCreatedAt(), existingData.getUpdatedAt())
+            request.getProfitsGenerated()
         );
 
         // Validate domain rules
-        updatedData.validate();
+        financialData.validate();
 
-        // Save
-        FinancialData saved = repository.save(updatedData);
-        log.info("Financial data updated successfully: countryCode={}", countryCode);
+        // Insert or replace in one statement; with a precondition, replace only the expected version
+        FinancialDataRepository.UpsertResult result;
+        if (expectedVersion != null) {
+            result = new FinancialDataRepository.UpsertResult(
+                repository.updateIfVersion(financialData, expectedVersion)
+                    .orElseThrow(() -> preconditionFailed(countryCode)),
+                false);
+        } else {
+            result = repository.upsert(financialData);
+        }
+        FinancialData saved = result.financialData();
+        historyService.record(List.of(saved));
+        eventPublisher.publishEvent(FinancialDataChangedEvent.of(code));
+        dataVersion.bump();
+        log.debug("Financial data {} successfully: countryCode={}", result.created() ? "created" : "updated", countryCode);
 
-        // Convert to USD and build response
-        return buildResponse(saved);
+        return new UpsertOutcome(buildResponse(saved), result.created());
     }
 
     /**
-     * Generates a consolidated summary of all financial data converted to USD.
-     * 
-     * Conversion uses: amountInUSD = amountInOriginalCurrency / exchangeRateToBase
-     * where exchangeRateToBase represents: 1 USD = X units of original currency
+     * Generates a consolidated summary of all financial data converted to USD,
+     * using the engine selected by {@code financial.summary.engine}.
      */
+    @Transactional(readOnly = true)
     public ConsolidatedSummaryResponse getSummary() {
-        log.debug("Generating consolidated summary");
-        List<FinancialData> allData = repository.findAll();
-
-        List<ConsolidatedSummaryResponse.CountrySummary> countrySummaries = allData.stream()
-            .map(data -> {
-                // Convert each amount using: amountInUSD = amountInOriginalCurrency / exchangeRateToBase
-                // where exchangeRateToBase represents: 1 USD = X units of original currency
-                BigDecimal capitalSavedUSD = currencyConverter.convertToUSD(
-                    data.getCurrency(), 
-                    data.getCapitalSaved()
-                );
-                BigDecimal capitalLoanedUSD = currencyConverter.convertToUSD(
-                    data.getCurrency(), 
-                    data.getCapitalLoaned()
-                );
-                BigDecimal profitsGeneratedUSD = currencyConverter.convertToUSD(
-                    data.getCurrency(), 
-                    data.getProfitsGenerated()
-                );
-
-                return ConsolidatedSummaryResponse.CountrySummary.builder()
-                    .countryCode(data.getCountry().getCode().getValue())
-                    .countryName(data.getCountry().getName().getValue())
-                    .capitalSaved(capitalSavedUSD)
-                    .capitalLoaned(capitalLoanedUSD)
-                    .profitsGenerated(profitsGeneratedUSD)
-                    .build();
-            })
-            .toList();
+        return getSummary(null);
+    }
 
-        // Calculate totals from country summaries
-        BigDecimal totalCapitalSaved = countrySummaries.stream()
-            .map(ConsolidatedSummaryResponse.CountrySummary::getCapitalSaved)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalCapitalLoaned = countrySummaries.stream()
-            .map(ConsolidatedSummaryResponse.CountrySummary::getCapitalLoaned)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalProfitsGenerated = countrySummaries.stream()
-            .map(ConsolidatedSummaryResponse.CountrySummary::getProfitsGenerated)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Like {@link #getSummary()}, but when {@code asOf} is given the current amounts are converted
+     * at the exchange rates in effect at that time instead of the current ones.
+     */
+    @Transactional(readOnly = true)
+    public ConsolidatedSummaryResponse getSummary(LocalDateTime asOf) {
+        return getSummary(asOf, null);
+    }
 
-        BigDecimal grandTotal = totalCapitalSaved
-            .add(totalCapitalLoaned)
-            .add(totalProfitsGenerated);
+    /**
+     * Like {@link #getSummary(LocalDateTime)}, with every amount in {@code currencyCode} when it
+     * is given and is not the base currency. Such summaries are converted at the current cross
+     * rates and cached per currency by {@link TargetCurrencySummaryService}.
+     *
+     * @throws IllegalStateException if the currency does not exist
+     * @throws IllegalArgumentException if {@code asOf} is combined with a currency other than the base one
+     */
+    @Transactional(readOnly = true)
+    public ConsolidatedSummaryResponse getSummary(LocalDateTime asOf, String currencyCode) {
+        log.debug("Generating consolidated summary: asOf={}, currencyCode={}", asOf, currencyCode);
+        ConsolidatedSummary summary;
+        // The target's index is only valid in the table it was found in
+        ExchangeRateTable rates = currencyConverter.rates();
+        ExchangeRateTable.Rate target = currencyCode != null ? targetRateOf(rates, currencyCode) : null;
+        if (target != null && !target.base()) {
+            if (asOf != null) {
+                log.warn("Consolidated summary failed: asOf={} requested in currencyCode={}", asOf, currencyCode);
+                throw new IllegalArgumentException("'asOf' is only supported for summaries in the base currency");
+            }
+            summary = targetCurrencySummaries.summarize(rates, target);
+        } else {
+            summary = asOf != null
+                ? pointInTimeSummaryEngine.summarizeAsOf(asOf)
+                : summaryEngine.summarize();
+        }
+
+        List<ConsolidatedSummaryResponse.CountrySummary> countrySummaries = summary.getByCountry().stream()
+            .map(country -> ConsolidatedSummaryResponse.CountrySummary.builder()
+                .countryCode(country.getCountryCode())
+                .countryName(country.getCountryName())
+                .capitalSaved(country.getCapitalSaved())
+                .capitalLoaned(country.getCapitalLoaned())
+                .profitsGenerated(country.getProfitsGenerated())
+                .build())
+            .toList();
 
         return ConsolidatedSummaryResponse.builder()
+            .totalCapitalSaved(summary.getTotalCapitalSaved())
+            .totalCapitalLoaned(summary.getTotalCapitalLoaned())
+            .totalProfitsGenerated(summary.getTotalProfitsGenerated())
+            .grandTotal(summary.getGrandTotal())
+            .byCountry(countrySummaries)
+            .build();
+    }
+
+    private static ExchangeRateTable.Rate targetRateOf(ExchangeRateTable rates, String currencyCode) {
+        ExchangeRateTable.Rate rate = rates.find(new CurrencyCode(currencyCode));
+        if (rate == null) {
+            log.warn("Consolidated summary failed: currency not found with code={}", currencyCode);
+            throw new IllegalStateException("Currency not found with code: " + currencyCode);
+        }
+        return rate;
+    }
+
+    /**
+     * Consolidated USD totals from the per-currency sums kept with every write, so the cost
+     * depends on the number of currencies, not of countries. Each currency sum is converted and
+     * rounded once, so totals can differ by cents from {@link #getSummary()}, which rounds the
+     * amounts of every country.
+     */
+    @Transactional(readOnly = true)
+    public CurrencySummaryResponse getSummaryByCurrency() {
+        log.debug("Generating summary from currency totals");
+        ExchangeRateTable rates = currencyConverter.rates();
+        List<CurrencySummaryResponse.CurrencyTotals> byCurrency = currencyTotalsRepository.findAll().stream()
+            .map(totals -> toUsd(rates, totals))
+            .toList();
+
+        BigDecimal totalCapitalSaved = BigDecimal.ZERO;
+        BigDecimal totalCapitalLoaned = BigDecimal.ZERO;
+        BigDecimal totalProfitsGenerated = BigDecimal.ZERO;
+        for (CurrencySummaryResponse.CurrencyTotals currency : byCurrency) {
+            totalCapitalSaved = totalCapitalSaved.add(currency.getCapitalSaved());
+            totalCapitalLoaned = totalCapitalLoaned.add(currency.getCapitalLoaned());
+            totalProfitsGenerated = totalProfitsGenerated.add(currency.getProfitsGenerated());
+        }
+        return CurrencySummaryResponse.builder()
             .totalCapitalSaved(totalCapitalSaved)
             .totalCapitalLoaned(totalCapitalLoaned)
             .totalProfitsGenerated(totalProfitsGenerated)
-            .grandTotal(grandTotal)
-            .byCountry(countrySummaries)
+            .grandTotal(totalCapitalSaved.add(totalCapitalLoaned).add(totalProfitsGenerated))
+            .byCurrency(byCurrency)
+            .build();
+    }
+
+    private CurrencySummaryResponse.CurrencyTotals toUsd(ExchangeRateTable rates, CurrencyTotals totals) {
+        return CurrencySummaryResponse.CurrencyTotals.builder()
+            .currencyCode(totals.getCurrency().getCode().getValue())
+            .countries(totals.getCountries())
+            .capitalSaved(currencyConverter.convertToUSD(rates, totals.getCurrency(), totals.getCapitalSaved()))
+            .capitalLoaned(currencyConverter.convertToUSD(rates, totals.getCurrency(), totals.getCapitalLoaned()))
+            .profitsGenerated(currencyConverter.convertToUSD(rates, totals.getCurrency(), totals.getProfitsGenerated()))
             .build();
     }
 
@@ -260,20 +383,50 @@ public class FinancialDataService {
                 return new IllegalStateException("Country not found with code: " + countryCode);
             });
 
-        // Check if country exists
-        if (!repository.existsByCountryCode(code)) {
+        // Delete, learning from the affected rows whether there was any data
+        if (!repository.deleteByCountryCode(code)) {
             log.warn("Financial data deletion failed: financial data not found for country={}", countryCode);
             throw new IllegalStateException("Financial data not found for country: " + countryCode);
         }
+        eventPublisher.publishEvent(FinancialDataChangedEvent.of(code));
+        dataVersion.bump();
+        log.debug("Financial data deleted successfully: countryCode={}", countryCode);
+    }
 
-        // Delete
-        repository.deleteByCountryCode(code);
-        log.info("Financial data deleted successfully: countryCode={}", countryCode);
+    private FinancialDataFilter toFilter(FinancialDataSearchRequest request) {
+        return FinancialDataFilter.builder()
+            .currencyCode(request.getCurrencyCode() != null ? new CurrencyCode(request.getCurrencyCode()) : null)
+            .minCapitalSaved(request.getMinCapitalSaved())
+            .maxCapitalSaved(request.getMaxCapitalSaved())
+            .minCapitalLoaned(request.getMinCapitalLoaned())
+            .maxCapitalLoaned(request.getMaxCapitalLoaned())
+            .minProfitsGenerated(request.getMinProfitsGenerated())
+            .maxProfitsGenerated(request.getMaxProfitsGenerated())
+            .build();
+    }
+
+    private String encodeCursor(FinancialDataCursor cursor) {
+        String raw = cursor.getCountryCode().getValue() + CURSOR_SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FinancialDataCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            return new FinancialDataCursor(
+                new CountryCode(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("Invalid pagination cursor: {}", cursor);
+            throw new IllegalArgumentException("Invalid pagination cursor: " + cursor);
+        }
     }
 
     private FinancialDataResponse buildResponse(FinancialData financialData) {
         // Return values in original currency (not converted to USD)
-        // Conversion to USD only happens in getSummary()
+        // Conversion to USD only happens in the summaries
         BigDecimal capitalSaved = financialData.getCapitalSaved();
         BigDecimal capitalLoaned = financialData.getCapitalLoaned();
         BigDecimal profitsGenerated = financialData.getProfitsGenerated();
@@ -287,6 +440,19 @@ public class FinancialDataService {
             .capitalLoaned(capitalLoaned)
             .profitsGenerated(profitsGenerated)
             .totalInUSD(total)
+            .version(financialData.getVersion())
             .build();
     }
+
+    private static PreconditionFailedException preconditionFailed(String countryCode) {
+        log.warn("Financial data upsert failed: precondition failed for country={}", countryCode);
+        return new PreconditionFailedException("Precondition failed: financial data of country " + countryCode
+            + " does not exist or was modified");
+    }
+
+    /**
+     * Result of {@link #upsert}: the stored data and whether the row was created rather than replaced.
+     */
+    public record UpsertOutcome(FinancialDataResponse response, boolean created) {
+    }
 }
@@ -0,0 +1,212 @@
+package com.savinco.financial.application.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
+import com.savinco.financial.application.event.FinancialDataChangedEvent;
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the consolidated summary in memory and serves it as an immutable snapshot.
+ *
+ * The summary is built once at startup. After each committed write only the affected countries
+ * are re-read and their USD contribution is swapped in the running totals; an exchange rate
+ * change re-converts just the countries using that currency. Reading the summary never touches
+ * the database.
+ *
+ * Changes are applied one at a time and always re-read the committed state, so listeners that
+ * run out of commit order still converge on the latest data.
+ */
+@Service
+@ConditionalOnProperty(name = "financial.summary.engine", havingValue = "incremental")
+@RequiredArgsConstructor
+@Slf4j
+public class IncrementalSummaryEngine implements SummaryEngine {
+
+    private final FinancialDataRepository repository;
+    private final CurrencyRepository currencyRepository;
+    private final CurrencyConverterService currencyConverter;
+    private final JavaSummaryEngine referenceEngine;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private final Map<String, Contribution> contributions = new TreeMap<>();
+    private BigDecimal totalCapitalSaved = BigDecimal.ZERO;
+    private BigDecimal totalCapitalLoaned = BigDecimal.ZERO;
+    private BigDecimal totalProfitsGenerated = BigDecimal.ZERO;
+
+    private volatile ConsolidatedSummary snapshot = ConsolidatedSummary.of(List.of());
+
+    @Override
+    public ConsolidatedSummary summarize() {
+        return snapshot;
+    }
+
+    /**
+     * Discards the in-memory state and rebuilds it from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            contributions.clear();
+            totalCapitalSaved = BigDecimal.ZERO;
+            totalCapitalLoaned = BigDecimal.ZERO;
+            totalProfitsGenerated = BigDecimal.ZERO;
+            ExchangeRateTable rates = currencyConverter.rates();
+            repository.findAll().forEach(data -> add(contributionOf(rates, data, data.getCurrency())));
+            publish();
+            log.info("In-memory summary rebuilt: countries={}", contributions.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancialDataChanged(FinancialDataChangedEvent event) {
+        synchronized (lock) {
+            ExchangeRateTable rates = currencyConverter.rates();
+            for (CountryCode countryCode : event.countryCodes()) {
+                Contribution previous = contributions.remove(countryCode.getValue());
+                if (previous != null) {
+                    subtract(previous);
+                }
+                repository.findByCountryCode(countryCode)
+                    .ifPresent(data -> add(contributionOf(rates, data, data.getCurrency())));
+            }
+            publish();
+            log.debug("In-memory summary updated: countries={}", event.countryCodes().size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        synchronized (lock) {
+            Currency currency = currencyRepository.findByCode(event.currencyCode()).orElse(null);
+            if (currency == null) {
+                // Deleted; a currency still used by a country cannot be, so no contribution uses it
+                log.debug("In-memory summary unchanged: currency deleted, code={}", event.currencyCode().getValue());
+                return;
+            }
+            // Published before this listener runs, with the new rate
+            ExchangeRateTable rates = currencyConverter.rates();
+            List<Contribution> affected = contributions.values().stream()
+                .filter(contribution -> contribution.currency().getCode().equals(currency.getCode()))
+                .toList();
+            for (Contribution contribution : affected) {
+                subtract(contribution);
+                add(contributionOf(rates, contribution.data(), currency));
+            }
+            publish();
+            log.debug("In-memory summary re-converted: currencyCode={}, countries={}",
+                currency.getCode().getValue(), affected.size());
+        }
+    }
+
+    /**
+     * Compares the in-memory summary with a full recomputation. When they differ the
+     * recomputed state replaces the in-memory one.
+     */
+    public ConsistencyReport checkConsistency() {
+        synchronized (lock) {
+            ConsolidatedSummary expected = referenceEngine.summarize();
+            ConsolidatedSummary actual = snapshot;
+
+            Map<String, ConsolidatedSummary.CountryTotals> actualByCountry = new TreeMap<>();
+            actual.getByCountry().forEach(country -> actualByCountry.put(country.getCountryCode(), country));
+            List<String> mismatched = new ArrayList<>();
+            for (ConsolidatedSummary.CountryTotals country : expected.getByCountry()) {
+                ConsolidatedSummary.CountryTotals current = actualByCountry.remove(country.getCountryCode());
+                if (current == null || !sameAmounts(country, current)) {
+                    mismatched.add(country.getCountryCode());
+                }
+            }
+            mismatched.addAll(actualByCountry.keySet());
+
+            boolean consistent = mismatched.isEmpty()
+                && expected.getTotalCapitalSaved().compareTo(actual.getTotalCapitalSaved()) == 0
+                && expected.getTotalCapitalLoaned().compareTo(actual.getTotalCapitalLoaned()) == 0
+                && expected.getTotalProfitsGenerated().compareTo(actual.getTotalProfitsGenerated()) == 0;
+            if (!consistent) {
+                log.warn("In-memory summary was inconsistent, rebuilding: mismatchedCountries={}", mismatched);
+                rebuild();
+            }
+            return new ConsistencyReport(consistent, expected.getByCountry().size(), mismatched);
+        }
+    }
+
+    private Contribution contributionOf(ExchangeRateTable rates, FinancialData data, Currency currency) {
+        return new Contribution(data, currency, new ConsolidatedSummary.CountryTotals(
+            data.getCountry().getCode().getValue(),
+            data.getCountry().getName().getValue(),
+            currencyConverter.convertToUSD(rates, currency, data.getCapitalSaved()),
+            currencyConverter.convertToUSD(rates, currency, data.getCapitalLoaned()),
+            currencyConverter.convertToUSD(rates, currency, data.getProfitsGenerated())
+        ));
+    }
+
+    private void add(Contribution contribution) {
+        contributions.put(contribution.usd().getCountryCode(), contribution);
+        totalCapitalSaved = totalCapitalSaved.add(contribution.usd().getCapitalSaved());
+        totalCapitalLoaned = totalCapitalLoaned.add(contribution.usd().getCapitalLoaned());
+        totalProfitsGenerated = totalProfitsGenerated.add(contribution.usd().getProfitsGenerated());
+    }
+
+    private void subtract(Contribution contribution) {
+        totalCapitalSaved = totalCapitalSaved.subtract(contribution.usd().getCapitalSaved());
+        totalCapitalLoaned = totalCapitalLoaned.subtract(contribution.usd().getCapitalLoaned());
+        totalProfitsGenerated = totalProfitsGenerated.subtract(contribution.usd().getProfitsGenerated());
+    }
+
+    private void publish() {
+        if (contributions.isEmpty()) {
+            // Same representation as a summary computed from scratch over no rows
+            totalCapitalSaved = BigDecimal.ZERO;
+            totalCapitalLoaned = BigDecimal.ZERO;
+            totalProfitsGenerated = BigDecimal.ZERO;
+        }
+        snapshot = new ConsolidatedSummary(
+            totalCapitalSaved,
+            totalCapitalLoaned,
+            totalProfitsGenerated,
+            contributions.values().stream().map(Contribution::usd).toList()
+        );
+    }
+
+    private static boolean sameAmounts(ConsolidatedSummary.CountryTotals a, ConsolidatedSummary.CountryTotals b) {
+        return a.getCountryName().equals(b.getCountryName())
+            && a.getCapitalSaved().compareTo(b.getCapitalSaved()) == 0
+            && a.getCapitalLoaned().compareTo(b.getCapitalLoaned()) == 0
+            && a.getProfitsGenerated().compareTo(b.getProfitsGenerated()) == 0;
+    }
+
+    /**
+     * Source amounts of one country and their USD conversion at the rate of {@code currency}.
+     */
+    private record Contribution(FinancialData data, Currency currency, ConsolidatedSummary.CountryTotals usd) {
+    }
+
+    /**
+     * Outcome of {@link #checkConsistency()}: the countries whose in-memory amounts differed
+     * from a full recomputation.
+     */
+    public record ConsistencyReport(boolean consistent, int countries, List<String> mismatchedCountries) {
+    }
+}
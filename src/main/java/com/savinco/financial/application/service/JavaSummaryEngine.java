@@ -0,0 +1,125 @@
+package com.savinco.financial.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.stereotype.Service;
+
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.model.Money;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads every financial data aggregate and converts it with {@link CurrencyConverterService}.
+ * This is the reference computation the other engines are checked against.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JavaSummaryEngine implements SummaryEngine {
+
+    private final FinancialDataRepository repository;
+    private final CurrencyConverterService currencyConverter;
+
+    /**
+     * Conversion uses: amountInUSD = amountInOriginalCurrency / exchangeRateToBase
+     * where exchangeRateToBase represents: 1 USD = X units of original currency
+     */
+    @Override
+    public ConsolidatedSummary summarize() {
+        List<FinancialData> allData = repository.findAll();
+        log.debug("Summarizing {} financial data records in the application", allData.size());
+
+        // Converted and totalled in minor units; any amount without a fixed-point form, or an
+        // overflowing total, sends the whole summary through the BigDecimal computation
+        ExchangeRateTable rates = currencyConverter.rates();
+        List<ConsolidatedSummary.CountryTotals> byCountry = new ArrayList<>(allData.size());
+        long totalCapitalSaved = 0;
+        long totalCapitalLoaned = 0;
+        long totalProfitsGenerated = 0;
+        // Whether each total has a non-zero addend, which gives it a scale of 2
+        boolean scaledSaved = false;
+        boolean scaledLoaned = false;
+        boolean scaledProfits = false;
+        try {
+            for (FinancialData data : allData) {
+                Money saved = data.getCapitalSavedMoney();
+                Money loaned = data.getCapitalLoanedMoney();
+                Money profits = data.getProfitsGeneratedMoney();
+                if (saved == null || loaned == null || profits == null) {
+                    return summarize(allData, (currency, amount) -> currencyConverter.convertToUSD(rates, currency, amount));
+                }
+                long savedUSD = currencyConverter.convertToUSDMinorUnits(rates, data.getCurrency(), saved);
+                long loanedUSD = currencyConverter.convertToUSDMinorUnits(rates, data.getCurrency(), loaned);
+                long profitsUSD = currencyConverter.convertToUSDMinorUnits(rates, data.getCurrency(), profits);
+                totalCapitalSaved = Math.addExact(totalCapitalSaved, savedUSD);
+                totalCapitalLoaned = Math.addExact(totalCapitalLoaned, loanedUSD);
+                totalProfitsGenerated = Math.addExact(totalProfitsGenerated, profitsUSD);
+                scaledSaved |= !saved.isZero();
+                scaledLoaned |= !loaned.isZero();
+                scaledProfits |= !profits.isZero();
+                byCountry.add(new ConsolidatedSummary.CountryTotals(
+                    data.getCountry().getCode().getValue(),
+                    data.getCountry().getName().getValue(),
+                    toUSDAmount(saved, savedUSD),
+                    toUSDAmount(loaned, loanedUSD),
+                    toUSDAmount(profits, profitsUSD)
+                ));
+            }
+        } catch (ArithmeticException e) {
+            log.debug("Fixed-point summary overflowed, summarizing with BigDecimal: {}", e.getMessage());
+            return summarize(allData, (currency, amount) -> currencyConverter.convertToUSD(rates, currency, amount));
+        }
+        return new ConsolidatedSummary(
+            scaledSaved ? Money.toBigDecimal(totalCapitalSaved) : BigDecimal.ZERO,
+            scaledLoaned ? Money.toBigDecimal(totalCapitalLoaned) : BigDecimal.ZERO,
+            scaledProfits ? Money.toBigDecimal(totalProfitsGenerated) : BigDecimal.ZERO,
+            byCountry
+        );
+    }
+
+    /**
+     * Revalues the current financial data at the exchange rates in effect at {@code asOf}.
+     */
+    public ConsolidatedSummary summarizeAsOf(LocalDateTime asOf) {
+        return summarize((currency, amount) -> currencyConverter.convertToUSD(currency, amount, asOf));
+    }
+
+    private ConsolidatedSummary summarize(BiFunction<Currency, BigDecimal, BigDecimal> toUSD) {
+        List<FinancialData> allData = repository.findAll();
+        log.debug("Summarizing {} financial data records in the application", allData.size());
+        return summarize(allData, toUSD);
+    }
+
+    private static ConsolidatedSummary summarize(List<FinancialData> allData,
+                                                 BiFunction<Currency, BigDecimal, BigDecimal> toUSD) {
+
+        List<ConsolidatedSummary.CountryTotals> byCountry = allData.stream()
+            .map(data -> new ConsolidatedSummary.CountryTotals(
+                data.getCountry().getCode().getValue(),
+                data.getCountry().getName().getValue(),
+                toUSD.apply(data.getCurrency(), data.getCapitalSaved()),
+                toUSD.apply(data.getCurrency(), data.getCapitalLoaned()),
+                toUSD.apply(data.getCurrency(), data.getProfitsGenerated())
+            ))
+            .toList();
+
+        return ConsolidatedSummary.of(byCountry);
+    }
+
+    /**
+     * Same representation as {@code convertToUSD}: a zero amount converts to an unscaled zero.
+     */
+    private static BigDecimal toUSDAmount(Money amount, long minorUnitsUSD) {
+        return amount.isZero() ? BigDecimal.ZERO : Money.toBigDecimal(minorUnitsUSD);
+    }
+}
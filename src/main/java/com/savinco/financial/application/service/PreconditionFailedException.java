@@ -0,0 +1,12 @@
+package com.savinco.financial.application.service;
+
+/**
+ * A conditional write whose {@link VersionPrecondition} did not match the stored version, or
+ * whose resource does not exist. Answered with HTTP 412.
+ */
+public class PreconditionFailedException extends IllegalStateException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
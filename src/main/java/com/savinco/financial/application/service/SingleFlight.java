@@ -0,0 +1,73 @@
+package com.savinco.financial.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs at most one computation per key at a time: callers arriving while a computation for
+ * their key is in flight wait for it and receive its result (or its exception) instead of
+ * starting another. Nothing is kept once the computation finishes.
+ *
+ * Meters: {@code singleflight.calls} tagged with the name and {@code result=executed|coalesced}.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("singleflight.calls").tag("name", name).tag("result", "executed").register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.calls").tag("name", name).tag("result", "coalesced").register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+
+        executed.increment();
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches every computation in flight: callers arriving from now on start a new one, while
+     * those already waiting still receive the result they joined. Called after writes, so no
+     * request that starts after a commit is answered from a computation that started before it.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow what the computation threw, so callers see the same exception as the leader
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
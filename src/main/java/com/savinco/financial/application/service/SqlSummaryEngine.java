@@ -0,0 +1,28 @@
+package com.savinco.financial.application.service;
+
+import org.springframework.stereotype.Service;
+
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lets the database convert and total everything in one statement, so summary cost in the
+ * application does not grow with the number of countries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SqlSummaryEngine implements SummaryEngine {
+
+    private final FinancialDataRepository repository;
+
+    @Override
+    public ConsolidatedSummary summarize() {
+        ConsolidatedSummary summary = repository.summarizeInUSD();
+        log.debug("Summarized {} financial data records in the database", summary.getByCountry().size());
+        return summary;
+    }
+}
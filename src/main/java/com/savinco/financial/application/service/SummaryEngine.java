@@ -0,0 +1,11 @@
+package com.savinco.financial.application.service;
+
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+
+/**
+ * Computes the consolidated USD summary. The implementation in use is chosen with
+ * {@code financial.summary.engine}; every implementation must return the same amounts.
+ */
+public interface SummaryEngine {
+    ConsolidatedSummary summarize();
+}
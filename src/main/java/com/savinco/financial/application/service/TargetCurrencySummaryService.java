@@ -0,0 +1,159 @@
+package com.savinco.financial.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
+import com.savinco.financial.application.event.FinancialDataChangedEvent;
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+import com.savinco.financial.domain.model.CrossRateMatrix;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+import com.savinco.financial.infrastructure.persistence.routing.PrimaryReads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The consolidated summary in a currency other than the base one, cached per target currency.
+ *
+ * Every amount is converted straight from its own currency with the cross rates of the
+ * {@link ExchangeRateTable}, rounded half up to 2 decimal places, and the totals add up the
+ * rounded amounts of the countries, like the USD summary.
+ *
+ * A cached summary remembers the currencies it converted from. A rate change, or deleting a
+ * currency, drops the summary in that currency and the summaries that converted from it; the
+ * others stay cached. Any change
+ * to financial data drops them all. A summary computed while an invalidation happened, or from
+ * a rate table that has since been replaced, is returned but not cached, since it may predate
+ * the write that caused the invalidation.
+ */
+@Service
+@Slf4j
+public class TargetCurrencySummaryService {
+
+    private final FinancialDataRepository repository;
+    private final CurrencyConverterService currencyConverter;
+    private final PrimaryReads primaryReads;
+    private final Map<String, CachedSummary> summaries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    // Guarded by this
+    private long generation;
+
+    public TargetCurrencySummaryService(FinancialDataRepository repository, CurrencyConverterService currencyConverter,
+                                        PrimaryReads primaryReads, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.currencyConverter = currencyConverter;
+        this.primaryReads = primaryReads;
+        this.hits = Counter.builder("cache.gets").tag("cache", "summary-by-target-currency").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", "summary-by-target-currency").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", summaries, Map::size).tag("cache", "summary-by-target-currency").register(meterRegistry);
+    }
+
+    /**
+     * The summary in {@code target}, converted at the cross rates of {@code rates}.
+     */
+    public ConsolidatedSummary summarize(ExchangeRateTable rates, ExchangeRateTable.Rate target) {
+        String targetCode = target.code().getValue();
+        long loadGeneration;
+        synchronized (this) {
+            CachedSummary cached = summaries.get(targetCode);
+            if (cached != null) {
+                hits.increment();
+                return cached.summary();
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+
+        // From the primary: totals read from a lagging replica right after an invalidation would stay cached
+        List<FinancialData> allData = primaryReads.read(repository::findAll);
+        log.debug("Summarizing {} financial data records in {}", allData.size(), targetCode);
+        CrossRateMatrix crossRates = rates.crossRates();
+        Set<String> sourceCurrencies = new HashSet<>();
+        List<ConsolidatedSummary.CountryTotals> byCountry = new ArrayList<>(allData.size());
+        for (FinancialData data : allData) {
+            Currency currency = data.getCurrency();
+            sourceCurrencies.add(currency.getCode().getValue());
+            byCountry.add(new ConsolidatedSummary.CountryTotals(
+                data.getCountry().getCode().getValue(),
+                data.getCountry().getName().getValue(),
+                convert(rates, crossRates, currency, target, data.getCapitalSaved()),
+                convert(rates, crossRates, currency, target, data.getCapitalLoaned()),
+                convert(rates, crossRates, currency, target, data.getProfitsGenerated())
+            ));
+        }
+        ConsolidatedSummary summary = ConsolidatedSummary.of(byCountry);
+
+        synchronized (this) {
+            // The caller took the rate snapshot before the generation was read here, so a rate
+            // change in between only shows as a newer table
+            if (generation == loadGeneration && rates.getVersion() == currencyConverter.rates().getVersion()) {
+                summaries.put(targetCode, new CachedSummary(summary, Set.copyOf(sourceCurrencies)));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Drops every cached summary.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        summaries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancialDataChanged(FinancialDataChangedEvent event) {
+        invalidateAll();
+    }
+
+    // Runs after the rate table was rebuilt, so summaries computed from now on use the new rate
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        String currencyCode = event.currencyCode().getValue();
+        generation++;
+        summaries.entrySet().removeIf(entry -> entry.getKey().equals(currencyCode)
+            || entry.getValue().sourceCurrencies().contains(currencyCode));
+        log.debug("Summaries by target currency invalidated: currencyCode={}, remaining={}", currencyCode, summaries.size());
+    }
+
+    /**
+     * Same representation as {@code convertToUSD}: a zero amount converts to an unscaled zero.
+     * Currencies missing from the table (created behind the services' back) are converted at
+     * the rate they carry.
+     */
+    private static BigDecimal convert(ExchangeRateTable rates, CrossRateMatrix crossRates, Currency currency,
+                                      ExchangeRateTable.Rate target, BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        ExchangeRateTable.Rate source = rates.find(currency.getCode());
+        if (source == null) {
+            return amount.multiply(target.exchangeRateToBase())
+                .divide(currency.getExchangeRateToBase(), 2, RoundingMode.HALF_UP);
+        }
+        return crossRates.convert(source, target, amount);
+    }
+
+    /**
+     * A summary in one target currency and the currencies its amounts were converted from.
+     */
+    private record CachedSummary(ConsolidatedSummary summary, Set<String> sourceCurrencies) {
+    }
+}
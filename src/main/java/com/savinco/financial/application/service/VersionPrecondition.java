@@ -0,0 +1,27 @@
+package com.savinco.financial.application.service;
+
+import java.util.Set;
+
+/**
+ * Precondition of a conditional write (HTTP {@code If-Match}): the write only proceeds when
+ * the stored version is one of {@code versions}, or, when {@code any} is set, when the
+ * resource exists at all.
+ */
+public record VersionPrecondition(boolean any, Set<Long> versions) {
+
+    public VersionPrecondition {
+        versions = Set.copyOf(versions);
+    }
+
+    public static VersionPrecondition anyVersion() {
+        return new VersionPrecondition(true, Set.of());
+    }
+
+    public static VersionPrecondition of(Set<Long> versions) {
+        return new VersionPrecondition(false, versions);
+    }
+
+    public boolean matches(long version) {
+        return any || versions.contains(version);
+    }
+}
@@ -0,0 +1,57 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Financial data of every country converted to USD, with the totals across countries.
+ * Totals are the sums of the already rounded per-country amounts.
+ */
+@Value
+public class ConsolidatedSummary {
+    BigDecimal totalCapitalSaved;
+    BigDecimal totalCapitalLoaned;
+    BigDecimal totalProfitsGenerated;
+    List<CountryTotals> byCountry;
+
+    public ConsolidatedSummary(BigDecimal totalCapitalSaved, BigDecimal totalCapitalLoaned,
+                               BigDecimal totalProfitsGenerated, List<CountryTotals> byCountry) {
+        this.totalCapitalSaved = totalCapitalSaved;
+        this.totalCapitalLoaned = totalCapitalLoaned;
+        this.totalProfitsGenerated = totalProfitsGenerated;
+        this.byCountry = List.copyOf(byCountry);
+    }
+
+    /**
+     * Builds a summary whose totals are summed from the given per-country amounts.
+     */
+    public static ConsolidatedSummary of(List<CountryTotals> byCountry) {
+        BigDecimal totalCapitalSaved = BigDecimal.ZERO;
+        BigDecimal totalCapitalLoaned = BigDecimal.ZERO;
+        BigDecimal totalProfitsGenerated = BigDecimal.ZERO;
+        for (CountryTotals country : byCountry) {
+            totalCapitalSaved = totalCapitalSaved.add(country.getCapitalSaved());
+            totalCapitalLoaned = totalCapitalLoaned.add(country.getCapitalLoaned());
+            totalProfitsGenerated = totalProfitsGenerated.add(country.getProfitsGenerated());
+        }
+        return new ConsolidatedSummary(totalCapitalSaved, totalCapitalLoaned, totalProfitsGenerated, byCountry);
+    }
+
+    public BigDecimal getGrandTotal() {
+        return totalCapitalSaved.add(totalCapitalLoaned).add(totalProfitsGenerated);
+    }
+
+    /**
+     * USD amounts of one country, each rounded to 2 decimal places.
+     */
+    @Value
+    public static class CountryTotals {
+        String countryCode;
+        String countryName;
+        BigDecimal capitalSaved;
+        BigDecimal capitalLoaned;
+        BigDecimal profitsGenerated;
+    }
+}
@@ -0,0 +1,49 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Rates between every pair of currencies, derived from their rates to the base currency:
+ * converting from {@code f} to {@code t} multiplies by {@code rate(t) / rate(f)}, computed once
+ * with 34 significant digits. A conversion is then an array lookup and one multiplication,
+ * rounded half up to 2 decimal places. Conversions to or from the base currency divide exactly
+ * instead, so they round half-cent results like {@code convertToUSD} does.
+ */
+public final class CrossRateMatrix {
+
+    private final int size;
+
+    // Row-major: crossRates[from * size + to]
+    private final BigDecimal[] crossRates;
+
+    public CrossRateMatrix(List<ExchangeRateTable.Rate> rates) {
+        this.size = rates.size();
+        this.crossRates = new BigDecimal[size * size];
+        for (ExchangeRateTable.Rate from : rates) {
+            for (ExchangeRateTable.Rate to : rates) {
+                crossRates[from.index() * size + to.index()] = from.index() == to.index()
+                    ? BigDecimal.ONE
+                    : to.exchangeRateToBase().divide(from.exchangeRateToBase(), MathContext.DECIMAL128);
+            }
+        }
+    }
+
+    /**
+     * Units of {@code to} per unit of {@code from}.
+     */
+    public BigDecimal rate(ExchangeRateTable.Rate from, ExchangeRateTable.Rate to) {
+        return crossRates[from.index() * size + to.index()];
+    }
+
+    public BigDecimal convert(ExchangeRateTable.Rate from, ExchangeRateTable.Rate to, BigDecimal amount) {
+        if (from.base() || to.base()) {
+            // A rounded reciprocal can land just below a half cent (0.06 / 12 as 0.06 * 0.08333...)
+            return amount.multiply(to.exchangeRateToBase())
+                .divide(from.exchangeRateToBase(), 2, RoundingMode.HALF_UP);
+        }
+        return amount.multiply(rate(from, to)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -35,9 +35,19 @@ public class Currency {
      * Example: If exchangeRateToBase = 0.90 for EUR, then 1 USD = 0.90 EUR
      */
     private BigDecimal exchangeRateToBase;
+
+    /**
+     * {@link #exchangeRateToBase} for fixed-point conversion; null when it does not fit.
+     */
+    private FixedPointRate fixedPointRate;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version of the stored currency; null until it is first saved.
+     */
+    private final Long version;
+
     // Factory method for new instances
     public static Currency create(CurrencyPrimitives primitives) {
         validateExchangeRate(primitives.getIsBase(), primitives.getExchangeRateToBase());
@@ -54,10 +64,16 @@ public class Currency {
         return currency;
     }
 
-    // Constructor for hydration from DB (no events)
     public Currency(CurrencyId id, CurrencyCode code, CurrencyName name, 
                    boolean isBase, BigDecimal exchangeRateToBase,
                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, code, name, isBase, exchangeRateToBase, createdAt, updatedAt, null);
+    }
+
+    // Constructor for hydration from DB (no events)
+    public Currency(CurrencyId id, CurrencyCode code, CurrencyName name, 
+                   boolean isBase, BigDecimal exchangeRateToBase,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
         validateExchangeRate(isBase, exchangeRateToBase);
         
         this.id = id;
@@ -65,8 +81,10 @@ public class Currency {
         this.name = name;
         this.isBase = isBase;
         this.exchangeRateToBase = exchangeRateToBase;
+        this.fixedPointRate = FixedPointRate.of(exchangeRateToBase);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     /**
@@ -89,6 +107,7 @@ public class Currency {
             throw new IllegalArgumentException("Exchange rate must be positive");
         }
         this.exchangeRateToBase = newRate;
+        this.fixedPointRate = FixedPointRate.of(newRate);
     }
 
     public CurrencyPrimitives toPrimitives() {
@@ -0,0 +1,17 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.Value;
+
+/**
+ * Sums of the financial data of every country reporting in one currency, in that currency.
+ */
+@Value
+public class CurrencyTotals {
+    Currency currency;
+    long countries;
+    BigDecimal capitalSaved;
+    BigDecimal capitalLoaned;
+    BigDecimal profitsGenerated;
+}
@@ -0,0 +1,32 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * Exchange rate of a currency during [validFrom, validTo). A null {@code validTo} means the
+ * rate is still in effect.
+ */
+@Value
+public class ExchangeRatePeriod {
+    CurrencyCode currencyCode;
+    BigDecimal exchangeRateToBase;
+    LocalDateTime validFrom;
+    LocalDateTime validTo;
+
+    public ExchangeRatePeriod(CurrencyCode currencyCode, BigDecimal exchangeRateToBase,
+                              LocalDateTime validFrom, LocalDateTime validTo) {
+        if (currencyCode == null || exchangeRateToBase == null || validFrom == null) {
+            throw new IllegalArgumentException("Exchange rate period currency, rate and start cannot be null");
+        }
+        if (validTo != null && validTo.isBefore(validFrom)) {
+            throw new IllegalArgumentException("Exchange rate period cannot end before it starts");
+        }
+        this.currencyCode = currencyCode;
+        this.exchangeRateToBase = exchangeRateToBase;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+}
@@ -0,0 +1,120 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the exchange rates of every currency, tagged with a version.
+ *
+ * Rates are found by the currency code packed into an int (5 bits per letter) in an
+ * open-addressing table of primitive keys, so a lookup neither allocates nor boxes. Each entry
+ * carries the rate's {@link FixedPointRate}, with its precomputed reciprocal, and an index
+ * into the {@link CrossRateMatrix} derived from the table the first time it is needed.
+ */
+public final class ExchangeRateTable {
+
+    private static final int EMPTY = -1;
+
+    @Getter
+    private final long version;
+    private final int size;
+    private final int[] keys;
+    private final Rate[] rates;
+    private final int mask;
+    private final List<Rate> byIndex;
+
+    // Derived on first use; racing threads may both build it, with identical results
+    private volatile CrossRateMatrix crossRates;
+
+    public ExchangeRateTable(long version, Collection<Currency> currencies) {
+        this.version = version;
+        this.size = currencies.size();
+        // At most half full, so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.rates = new Rate[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        List<Rate> ordered = new ArrayList<>(size);
+        for (Currency currency : currencies) {
+            int key = pack(currency.getCode());
+            int slot = slotOf(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            rates[slot] = new Rate(ordered.size(), currency.getCode(), currency.isBase(),
+                currency.getExchangeRateToBase(), currency.getFixedPointRate());
+            ordered.add(rates[slot]);
+        }
+        this.byIndex = List.copyOf(ordered);
+    }
+
+    public static ExchangeRateTable empty() {
+        return new ExchangeRateTable(0, List.of());
+    }
+
+    /**
+     * The rate of the currency, or null when the table has none.
+     */
+    public Rate find(CurrencyCode code) {
+        int key = pack(code);
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return rates[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rates in index order.
+     */
+    public List<Rate> rates() {
+        return byIndex;
+    }
+
+    /**
+     * Cross rates between every pair of currencies of this table.
+     */
+    public CrossRateMatrix crossRates() {
+        CrossRateMatrix matrix = crossRates;
+        if (matrix == null) {
+            matrix = new CrossRateMatrix(byIndex);
+            crossRates = matrix;
+        }
+        return matrix;
+    }
+
+    /**
+     * Packs a code of three letters A-Z into 15 bits.
+     */
+    static int pack(CurrencyCode code) {
+        String value = code.getValue();
+        return (value.charAt(0) - 'A') << 10 | (value.charAt(1) - 'A') << 5 | (value.charAt(2) - 'A');
+    }
+
+    private int slotOf(int key) {
+        return (key * 0x9E3779B9 >>> 16) & mask;
+    }
+
+    /**
+     * Exchange rate of one currency: 1 USD = {@code exchangeRateToBase} units. {@code fixedPoint}
+     * is null when the rate has no fixed-point form; {@code index} is its row and column in the
+     * cross rates.
+     */
+    public record Rate(int index, CurrencyCode code, boolean base, BigDecimal exchangeRateToBase,
+                       FixedPointRate fixedPoint) {
+    }
+}
@@ -13,20 +13,43 @@ public class FinancialData {
     private final BigDecimal capitalSaved;
     private final BigDecimal capitalLoaned;
     private final BigDecimal profitsGenerated;
+
+    /**
+     * Fixed-point copies of the amounts, for conversion and aggregation without BigDecimal
+     * arithmetic; null when the currency is missing or an amount has more than 2 decimals.
+     */
+    private final Money capitalSavedMoney;
+    private final Money capitalLoanedMoney;
+    private final Money profitsGeneratedMoney;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version of the stored row; null until it is first saved.
+     */
+    private final Long version;
+
     public FinancialData(Long id, Country country, Currency currency, 
                          BigDecimal capitalSaved, BigDecimal capitalLoaned, 
                          BigDecimal profitsGenerated, Timestamps timestamps) {
+        this(id, country, currency, capitalSaved, capitalLoaned, profitsGenerated, timestamps, null);
+    }
+
+    public FinancialData(Long id, Country country, Currency currency, 
+                         BigDecimal capitalSaved, BigDecimal capitalLoaned, 
+                         BigDecimal profitsGenerated, Timestamps timestamps, Long version) {
         this.id = id;
         this.country = country;
         this.currency = currency;
         this.capitalSaved = capitalSaved;
         this.capitalLoaned = capitalLoaned;
         this.profitsGenerated = profitsGenerated;
+        this.capitalSavedMoney = moneyOf(capitalSaved, currency);
+        this.capitalLoanedMoney = moneyOf(capitalLoaned, currency);
+        this.profitsGeneratedMoney = moneyOf(profitsGenerated, currency);
         this.createdAt = timestamps.createdAt();
         this.updatedAt = timestamps.updatedAt();
+        this.version = version;
     }
 
     public record Timestamps(LocalDateTime createdAt, LocalDateTime updatedAt) {
@@ -61,4 +84,15 @@ public class FinancialData {
             throw new IllegalArgumentException("Profits generated must be non-negative");
         }
     }
+
+    private static Money moneyOf(BigDecimal amount, Currency currency) {
+        if (amount == null || currency == null) {
+            return null;
+        }
+        try {
+            return Money.of(amount, currency.getCode());
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.savinco.financial.domain.model;
+
+import lombok.Value;
+
+/**
+ * Keyset position in the (country_code, id) ordering of financial data.
+ * A page starts right after the row identified by this cursor.
+ */
+@Value
+public class FinancialDataCursor {
+    CountryCode countryCode;
+    Long id;
+
+    public FinancialDataCursor(CountryCode countryCode, Long id) {
+        if (countryCode == null) {
+            throw new IllegalArgumentException("Cursor country code cannot be null");
+        }
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Cursor id must be positive");
+        }
+        this.countryCode = countryCode;
+        this.id = id;
+    }
+
+    public static FinancialDataCursor of(FinancialData financialData) {
+        return new FinancialDataCursor(financialData.getCountry().getCode(), financialData.getId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.Value;
+
+/**
+ * Flat view of one financial data row for bulk export, in original currency. Unlike
+ * {@link FinancialData} it carries no country or currency aggregates, so it is cheap to
+ * produce for every row of a large table.
+ */
+@Value
+public class FinancialDataExportRow {
+    String countryCode;
+    String countryName;
+    String currencyCode;
+    BigDecimal capitalSaved;
+    BigDecimal capitalLoaned;
+    BigDecimal profitsGenerated;
+}
@@ -0,0 +1,26 @@
+package com.savinco.financial.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional server-side filters for listing financial data.
+ * Null fields are ignored; amount bounds are inclusive.
+ */
+@Value
+@Builder
+public class FinancialDataFilter {
+    CurrencyCode currencyCode;
+    BigDecimal minCapitalSaved;
+    BigDecimal maxCapitalSaved;
+    BigDecimal minCapitalLoaned;
+    BigDecimal maxCapitalLoaned;
+    BigDecimal minProfitsGenerated;
+    BigDecimal maxProfitsGenerated;
+
+    public static FinancialDataFilter none() {
+        return FinancialDataFilter.builder().build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.savinco.financial.domain.model;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Outcome of a CSV import: how many rows were read, the countries whose data was written and
+ * the rows that were rejected. Only the first rejects, in file order, are kept.
+ */
+@Value
+public class FinancialDataImport {
+    long received;
+    List<CountryCode> imported;
+    long rejected;
+    List<Reject> rejects;
+
+    public FinancialDataImport(long received, List<CountryCode> imported, long rejected, List<Reject> rejects) {
+        this.received = received;
+        this.imported = List.copyOf(imported);
+        this.rejected = rejected;
+        this.rejects = List.copyOf(rejects);
+    }
+
+    /**
+     * A row that was not imported. {@code row} is the one-based position of the record after the header.
+     */
+    @Value
+    public static class Reject {
+        long row;
+        String countryCode;
+        String reason;
+    }
+}
@@ -0,0 +1,48 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import lombok.Value;
+
+/**
+ * Financial data of one country as it stood in a given month, in original currency.
+ */
+@Value
+public class FinancialDataSnapshot {
+    CountryCode countryCode;
+    YearMonth period;
+    CurrencyCode currencyCode;
+    BigDecimal capitalSaved;
+    BigDecimal capitalLoaned;
+    BigDecimal profitsGenerated;
+    LocalDateTime recordedAt;
+
+    public FinancialDataSnapshot(CountryCode countryCode, YearMonth period, CurrencyCode currencyCode,
+                                 BigDecimal capitalSaved, BigDecimal capitalLoaned,
+                                 BigDecimal profitsGenerated, LocalDateTime recordedAt) {
+        if (countryCode == null || period == null || currencyCode == null) {
+            throw new IllegalArgumentException("Snapshot country, period and currency cannot be null");
+        }
+        this.countryCode = countryCode;
+        this.period = period;
+        this.currencyCode = currencyCode;
+        this.capitalSaved = capitalSaved;
+        this.capitalLoaned = capitalLoaned;
+        this.profitsGenerated = profitsGenerated;
+        this.recordedAt = recordedAt;
+    }
+
+    public static FinancialDataSnapshot of(FinancialData financialData, YearMonth period) {
+        return new FinancialDataSnapshot(
+            financialData.getCountry().getCode(),
+            period,
+            financialData.getCurrency().getCode(),
+            financialData.getCapitalSaved(),
+            financialData.getCapitalLoaned(),
+            financialData.getProfitsGenerated(),
+            null
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Exchange rate to the base currency as an integer fraction, so amounts in minor units are
+ * converted to base currency minor units with {@code long} arithmetic and no allocation.
+ *
+ * For a rate {@code r = u * 10^-k} (1 USD = r units), an amount of {@code m} minor units is
+ * {@code m / r} USD, that is {@code m * 10^k / u} USD minor units, rounded half up: the
+ * same result as {@code amount.divide(r, 2, RoundingMode.HALF_UP)}.
+ *
+ * The division by {@code u} is a multiplication by its 64-bit reciprocal
+ * {@code floor((2^64 - 1) / u)}, precomputed once per rate. The estimated quotient is at most
+ * two below the exact one and is corrected from the remainder, so the result stays exact.
+ */
+public final class FixedPointRate {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long multiplier;
+    private final long divisor;
+
+    // Unsigned
+    private final long reciprocal;
+
+    private FixedPointRate(long multiplier, long divisor) {
+        this.multiplier = multiplier;
+        this.divisor = divisor;
+        this.reciprocal = Long.divideUnsigned(-1L, divisor);
+    }
+
+    /**
+     * The rate as a fraction of two {@code long}s, or null when it is not positive or its
+     * digits do not fit; such rates are converted with {@link BigDecimal}.
+     */
+    public static FixedPointRate of(BigDecimal rate) {
+        if (rate == null || rate.signum() <= 0) {
+            return null;
+        }
+        BigDecimal normalized = rate.stripTrailingZeros();
+        int scale = normalized.scale();
+        if (normalized.precision() >= POWERS_OF_TEN.length || Math.abs(scale) >= POWERS_OF_TEN.length) {
+            return null;
+        }
+        long unscaled = normalized.unscaledValue().longValueExact();
+        if (scale >= 0) {
+            return new FixedPointRate(POWERS_OF_TEN[scale], unscaled);
+        }
+        try {
+            return new FixedPointRate(1, Math.multiplyExact(unscaled, POWERS_OF_TEN[-scale]));
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts minor units of the currency to base currency minor units, rounding half up.
+     *
+     * @throws ArithmeticException if the intermediate product leaves the {@code long} range
+     */
+    public long toBaseMinorUnits(long minorUnits) {
+        long dividend = Math.multiplyExact(minorUnits, multiplier);
+        long magnitude = Math.absExact(dividend);
+        long quotient = unsignedMultiplyHigh(magnitude, reciprocal);
+        long remainder = magnitude - quotient * divisor;
+        while (remainder >= divisor) {
+            quotient++;
+            remainder -= divisor;
+        }
+        // Half up, away from zero; compared without doubling the remainder, which could overflow
+        if (remainder >= divisor - remainder) {
+            quotient++;
+        }
+        return dividend < 0 ? -quotient : quotient;
+    }
+
+    /**
+     * High 64 bits of the unsigned product of a non-negative {@code value} and {@code unsigned}.
+     */
+    private static long unsignedMultiplyHigh(long value, long unsigned) {
+        return Math.multiplyHigh(value, unsigned) + ((unsigned >> 63) & value);
+    }
+}
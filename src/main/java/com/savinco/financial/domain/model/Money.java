@@ -0,0 +1,62 @@
+package com.savinco.financial.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.Value;
+
+/**
+ * Amount of a currency held as a {@code long} count of minor units (hundredths), the scale of
+ * the {@code NUMERIC(19,2)} amount columns, whose whole range fits in a {@code long}.
+ *
+ * Arithmetic is exact: results that leave the {@code long} range throw
+ * {@link ArithmeticException} instead of wrapping. {@link BigDecimal} is only used to convert
+ * from and to the representation of the rest of the application.
+ */
+@Value
+public class Money {
+    public static final int SCALE = 2;
+
+    long minorUnits;
+    CurrencyCode currency;
+
+    /**
+     * @throws ArithmeticException if the amount has non-zero digits beyond the second decimal
+     *         or does not fit in a {@code long} of minor units
+     */
+    public static Money of(BigDecimal amount, CurrencyCode currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        return new Money(minorUnitsOf(amount), currency);
+    }
+
+    /**
+     * Minor units of the amount.
+     *
+     * @throws ArithmeticException if the amount has non-zero digits beyond the second decimal
+     *         or does not fit in a {@code long}
+     */
+    public static long minorUnitsOf(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException(
+                "Cannot add " + other.currency.getValue() + " to " + currency.getValue());
+        }
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minorUnits);
+    }
+}
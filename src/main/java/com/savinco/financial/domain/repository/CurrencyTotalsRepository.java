@@ -0,0 +1,17 @@
+package com.savinco.financial.domain.repository;
+
+import java.util.List;
+
+import com.savinco.financial.domain.model.CurrencyTotals;
+
+/**
+ * Per-currency totals of financial data. They are kept current by {@link FinancialDataRepository}
+ * and the CSV import inside the transaction of each write, so reads never aggregate rows.
+ */
+public interface CurrencyTotalsRepository {
+
+    /**
+     * Returns the totals of every currency used by at least one country, ordered by currency code.
+     */
+    List<CurrencyTotals> findAll();
+}
@@ -0,0 +1,19 @@
+package com.savinco.financial.domain.repository;
+
+import java.time.Instant;
+
+/**
+ * Counter that changes whenever currencies, countries or financial data change. Every write
+ * must call {@link #bump()}, after publishing its change events, so anything derived from the
+ * data and tagged with the version it was computed at can tell whether it is still current.
+ */
+public interface DataVersion {
+    long current();
+    void bump();
+
+    /**
+     * Time of the last change: the latest {@code updated_at} at startup, then the time of the
+     * last {@link #bump()}.
+     */
+    Instant lastModified();
+}
@@ -0,0 +1,28 @@
+package com.savinco.financial.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.ExchangeRatePeriod;
+
+public interface ExchangeRateHistoryRepository {
+
+    /**
+     * Closes the period currently in effect for the currency, if any, at {@code validFrom}
+     * and opens a new one with the given rate.
+     */
+    void open(CurrencyCode currencyCode, BigDecimal exchangeRateToBase, LocalDateTime validFrom);
+
+    /**
+     * Every period of every currency, ordered by currency then start.
+     */
+    List<ExchangeRatePeriod> findAll();
+
+    /**
+     * Periods of one currency, ordered by start.
+     */
+    List<ExchangeRatePeriod> findByCurrencyCode(CurrencyCode currencyCode);
+    void deleteAll();
+}
@@ -0,0 +1,31 @@
+package com.savinco.financial.domain.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.FinancialDataSnapshot;
+
+public interface FinancialDataHistoryRepository {
+
+    /**
+     * Writes the snapshots, replacing any existing snapshot of the same country and period.
+     */
+    void record(List<FinancialDataSnapshot> snapshots);
+
+    /**
+     * Snapshots of every country with a period in [from, to], ordered by period then country.
+     */
+    List<FinancialDataSnapshot> findByPeriodRange(YearMonth from, YearMonth to);
+
+    /**
+     * Snapshots of one country with a period in [from, to], ordered by period.
+     */
+    List<FinancialDataSnapshot> findByCountryAndPeriodRange(CountryCode countryCode, YearMonth from, YearMonth to);
+
+    /**
+     * For every existing country, its most recent snapshot with a period not after {@code asOf}.
+     */
+    List<FinancialDataSnapshot> findLatestPerCountry(YearMonth asOf);
+    void deleteAll();
+}
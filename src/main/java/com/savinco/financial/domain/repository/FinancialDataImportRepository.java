@@ -0,0 +1,20 @@
+package com.savinco.financial.domain.repository;
+
+import java.io.Reader;
+
+import com.savinco.financial.domain.model.FinancialDataImport;
+
+public interface FinancialDataImportRepository {
+
+    /**
+     * Imports CSV rows with a header line naming the columns countryCode, currencyCode,
+     * capitalSaved, capitalLoaned and profitsGenerated, in any order; other columns are ignored.
+     * Rows are staged, validated against countries and currencies as a set, and the valid ones
+     * are merged into financial data in one statement, replacing existing data of a country.
+     * Must be called inside a transaction.
+     *
+     * @param maxReportedRejects maximum number of rejects returned; all of them are counted
+     * @throws IllegalArgumentException if the header or the CSV structure is invalid
+     */
+    FinancialDataImport importCsv(Reader csv, int maxReportedRejects);
+}
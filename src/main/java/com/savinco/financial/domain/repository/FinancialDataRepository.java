@@ -2,16 +2,79 @@ package com.savinco.financial.domain.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.savinco.financial.domain.model.ConsolidatedSummary;
 import com.savinco.financial.domain.model.CountryCode;
 import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.model.FinancialDataCursor;
+import com.savinco.financial.domain.model.FinancialDataExportRow;
+import com.savinco.financial.domain.model.FinancialDataFilter;
 
 public interface FinancialDataRepository {
-    FinancialData save(FinancialData financialData);
     Optional<FinancialData> findByCountryCode(CountryCode countryCode);
     boolean existsByCountryCode(CountryCode countryCode);
     boolean existsByCountryId(Long countryId);
-    void deleteByCountryCode(CountryCode countryCode);
+
+    /**
+     * Deletes the row of the country; false when it had none.
+     */
+    boolean deleteByCountryCode(CountryCode countryCode);
+
     List<FinancialData> findAll();
+    List<CountryCode> findAllCountryCodes();
+
+    /**
+     * Inserts new rows, sent to the database as JDBC batches. Rows must already be validated; no aggregates are returned.
+     */
+    void insertAll(List<FinancialData> financialData);
+
+    /**
+     * Returns up to {@code limit} rows ordered by (country code, id), starting after {@code after}
+     * (or from the beginning when {@code after} is null).
+     */
+    List<FinancialData> findPage(FinancialDataFilter filter, FinancialDataCursor after, int limit);
+
+    /**
+     * Passes every row, ordered by country code, to {@code consumer} while reading them from a
+     * server-side cursor {@code fetchSize} rows at a time, so memory use does not grow with the
+     * table. Must be called inside a transaction, which keeps the cursor open.
+     */
+    void exportAll(int fetchSize, Consumer<FinancialDataExportRow> consumer);
+
+    /**
+     * Converts every row to USD and totals them in the database, ordered by country code.
+     * Amounts are rounded exactly like {@code CurrencyConverterService.convertToUSD}.
+     */
+    ConsolidatedSummary summarizeInUSD();
+
+    /**
+     * Inserts the row of the country, or replaces its currency and amounts when it already has
+     * one. An existing row is locked before it is replaced, so its previous amounts can be taken
+     * out of the currency totals. Country and currency are stored as given; the returned data
+     * carries the stored id and timestamps.
+     */
+    UpsertResult upsert(FinancialData financialData);
+
+    /**
+     * Inserts the row of the country in a single statement unless it already has one, in which
+     * case nothing is written and the result is empty.
+     */
+    Optional<FinancialData> insertIfAbsent(FinancialData financialData);
+
+    /**
+     * Returns the optimistic locking version of the row of the country, without loading it.
+     */
+    Optional<Long> findVersionByCountryCode(CountryCode countryCode);
+
+    /**
+     * Replaces the currency and amounts of the row of the country in a single statement, only
+     * if its version is still {@code expectedVersion}; the version is incremented. The result is
+     * empty when the row is missing or was changed in the meantime.
+     */
+    Optional<FinancialData> updateIfVersion(FinancialData financialData, long expectedVersion);
     void deleteAll();
+
+    record UpsertResult(FinancialData financialData, boolean created) {
+    }
 }
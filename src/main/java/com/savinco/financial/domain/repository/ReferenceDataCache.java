@@ -0,0 +1,14 @@
+package com.savinco.financial.domain.repository;
+
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.CurrencyCode;
+
+/**
+ * Invalidation of cached currencies and countries. Every write to either table must call it,
+ * so lookups through {@link CurrencyRepository} and {@link CountryRepository} never return a
+ * row that was changed or deleted.
+ */
+public interface ReferenceDataCache {
+    void invalidateCurrency(CurrencyCode code);
+    void invalidateCountry(CountryCode code);
+}
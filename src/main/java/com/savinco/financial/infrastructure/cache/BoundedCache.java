@@ -0,0 +1,96 @@
+package com.savinco.financial.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Small LRU cache for reference data, with Micrometer hit, miss, eviction and size meters
+ * tagged with the cache name ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}).
+ *
+ * Absent values are never cached, so a lookup for a row that does not exist yet always reaches
+ * the loader. The loader runs outside the lock; a value loaded while an invalidation happened
+ * is returned but not cached, since it may predate the write that caused the invalidation.
+ */
+public class BoundedCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long generation;
+
+    public BoundedCache(String name, int maxSize, MeterRegistry meterRegistry) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be positive: " + name);
+        }
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        Gauge.builder("cache.size", this, BoundedCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value, or loads, caches and returns it when absent.
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isPresent()) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, loaded.get());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<V> predicate) {
+        generation++;
+        entries.values().removeIf(predicate);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,89 @@
+package com.savinco.financial.infrastructure.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.savinco.financial.domain.model.Country;
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.repository.CountryRepository;
+import com.savinco.financial.domain.repository.ReferenceDataCache;
+import com.savinco.financial.infrastructure.persistence.repository.JpaCountryRepository;
+import com.savinco.financial.infrastructure.persistence.routing.PrimaryReads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache in front of {@link JpaCountryRepository} for lookups by code and by id.
+ * Entries are dropped through {@link ReferenceDataCache} on every write. {@link Country} is
+ * immutable, so cached instances are shared. Misses are loaded through {@link PrimaryReads}, so
+ * a lagging replica cannot put back a country that was just changed.
+ */
+@Component
+@Primary
+public class CachingCountryRepository implements CountryRepository {
+
+    private final JpaCountryRepository delegate;
+    private final PrimaryReads primaryReads;
+    private final BoundedCache<Object, Country> cache;
+
+    public CachingCountryRepository(JpaCountryRepository delegate,
+                                    PrimaryReads primaryReads,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${financial.reference-cache.max-size:1000}") int maxSize) {
+        this.delegate = delegate;
+        this.primaryReads = primaryReads;
+        this.cache = new BoundedCache<>("countries", maxSize, meterRegistry);
+    }
+
+    @Override
+    public Country save(Country country) {
+        return delegate.save(country);
+    }
+
+    @Override
+    public Optional<Country> findById(Long id) {
+        return cache.get(id, key -> primaryReads.read(() -> delegate.findById(id)));
+    }
+
+    @Override
+    public Optional<Country> findByCode(CountryCode code) {
+        return cache.get(code, key -> primaryReads.read(() -> delegate.findByCode(code)));
+    }
+
+    @Override
+    public List<Country> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public boolean existsByCode(CountryCode code) {
+        return cache.contains(code) || delegate.existsByCode(code);
+    }
+
+    @Override
+    public boolean existsByCurrencyId(Long currencyId) {
+        return delegate.existsByCurrencyId(currencyId);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every entry (by code, by id) that holds the given country.
+     */
+    void invalidate(CountryCode code) {
+        cache.invalidateIf(country -> country.getCode().equals(code));
+    }
+}
@@ -0,0 +1,111 @@
+package com.savinco.financial.infrastructure.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.ReferenceDataCache;
+import com.savinco.financial.infrastructure.persistence.repository.JpaCurrencyRepository;
+import com.savinco.financial.infrastructure.persistence.routing.PrimaryReads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache in front of {@link JpaCurrencyRepository} for lookups by code, by id and
+ * of the base currency. Entries are dropped through {@link ReferenceDataCache} on every write
+ * and misses are loaded through {@link PrimaryReads}, never from a lagging replica.
+ *
+ * {@link Currency} is mutable (exchange rate updates), so callers always get their own copy
+ * and can never change the cached instance.
+ */
+@Component
+@Primary
+public class CachingCurrencyRepository implements CurrencyRepository {
+
+    private static final String BASE_CURRENCY_KEY = "base";
+
+    private final JpaCurrencyRepository delegate;
+    private final PrimaryReads primaryReads;
+    private final BoundedCache<Object, Currency> cache;
+
+    public CachingCurrencyRepository(JpaCurrencyRepository delegate,
+                                     PrimaryReads primaryReads,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${financial.reference-cache.max-size:1000}") int maxSize) {
+        this.delegate = delegate;
+        this.primaryReads = primaryReads;
+        this.cache = new BoundedCache<>("currencies", maxSize, meterRegistry);
+    }
+
+    @Override
+    public Currency save(Currency currency) {
+        return delegate.save(currency);
+    }
+
+    @Override
+    public Optional<Currency> findById(Long id) {
+        return cache.get(id, key -> primaryReads.read(() -> delegate.findById(id))).map(CachingCurrencyRepository::copyOf);
+    }
+
+    @Override
+    public Optional<Currency> findByCode(CurrencyCode code) {
+        return cache.get(code, key -> primaryReads.read(() -> delegate.findByCode(code))).map(CachingCurrencyRepository::copyOf);
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<Currency> findBaseCurrency() {
+        return cache.get(BASE_CURRENCY_KEY, key -> primaryReads.read(() -> delegate.findBaseCurrency())).map(CachingCurrencyRepository::copyOf);
+    }
+
+    @Override
+    public boolean existsByCode(CurrencyCode code) {
+        return cache.contains(code) || delegate.existsByCode(code);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every entry (by code, by id, base) that holds the given currency.
+     */
+    void invalidate(CurrencyCode code) {
+        cache.invalidateIf(currency -> currency.getCode().equals(code));
+    }
+
+    private static Currency copyOf(Currency currency) {
+        return new Currency(
+            currency.getId(),
+            currency.getCode(),
+            currency.getName(),
+            currency.isBase(),
+            currency.getExchangeRateToBase(),
+            currency.getCreatedAt(),
+            currency.getUpdatedAt(),
+            currency.getVersion()
+        );
+    }
+}
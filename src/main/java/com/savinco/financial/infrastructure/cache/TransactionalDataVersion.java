@@ -0,0 +1,84 @@
+package com.savinco.financial.infrastructure.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.savinco.financial.domain.repository.DataVersion;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bumps right away and once more when the writing transaction completes, after the
+ * after-commit listeners: a reader may compute from the old data while the write is still
+ * uncommitted, or before the in-memory summary applied it, and tag the result with the
+ * intermediate version.
+ *
+ * The second bump has the lowest order, like the listeners, and Spring runs synchronizations
+ * of equal order in registration order; writers therefore publish their change events before
+ * calling {@link #bump()}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionalDataVersion implements DataVersion {
+
+    private final EntityManager entityManager;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Instant lastModified = Instant.now();
+
+    @Override
+    public long current() {
+        return version.get();
+    }
+
+    @Override
+    public void bump() {
+        changed();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changed();
+                }
+            });
+        }
+    }
+
+    @Override
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Starts the modification time from the latest row update; deleted rows leave no trace,
+     * but responses served before the restart already carried a later time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Stream.of("FinancialDataEntity", "CurrencyEntity", "CountryEntity")
+            .map(entity -> entityManager.createQuery("SELECT MAX(e.updatedAt) FROM " + entity + " e", LocalDateTime.class)
+                .getSingleResult())
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .ifPresent(updatedAt -> lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant());
+        log.info("Data version initialized: lastModified={}", lastModified);
+    }
+
+    private void changed() {
+        version.incrementAndGet();
+        lastModified = Instant.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.savinco.financial.infrastructure.cache;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.repository.ReferenceDataCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidates right away and once more when the writing transaction completes: a concurrent
+ * reader may re-cache the old row while the write is still uncommitted. The second pass runs
+ * before any after-commit listener, so those always read the new row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionalReferenceDataCache implements ReferenceDataCache {
+
+    private final CachingCurrencyRepository currencyRepository;
+    private final CachingCountryRepository countryRepository;
+
+    @Override
+    public void invalidateCurrency(CurrencyCode code) {
+        log.debug("Invalidating cached currency: code={}", code.getValue());
+        invalidate(() -> currencyRepository.invalidate(code));
+    }
+
+    @Override
+    public void invalidateCountry(CountryCode code) {
+        log.debug("Invalidating cached country: code={}", code.getValue());
+        invalidate(() -> countryRepository.invalidate(code));
+    }
+
+    private void invalidate(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
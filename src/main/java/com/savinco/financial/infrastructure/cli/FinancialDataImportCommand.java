@@ -0,0 +1,60 @@
+package com.savinco.financial.infrastructure.cli;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.savinco.financial.application.dto.FinancialDataImportResponse;
+import com.savinco.financial.application.service.FinancialDataImportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-line import: when started with {@code --financial.import.file=<path>} the application
+ * imports that CSV file, logs the outcome and exits. The exit code is 0 when every row was
+ * imported and 1 otherwise. Combine with {@code --spring.main.web-application-type=none} to
+ * skip starting the HTTP server.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialDataImportCommand implements ApplicationRunner {
+
+    private final FinancialDataImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${financial.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Importing financial data from file: {}", file);
+        FinancialDataImportResponse response;
+        try (Reader csv = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            response = importService.importCsv(csv);
+        }
+
+        response.getRejects().forEach(reject -> log.warn("Rejected row {} (countryCode={}): {}",
+            reject.getRow(), reject.getCountryCode(), reject.getMessage()));
+        if (response.getRejects().size() < response.getRejected()) {
+            log.warn("{} more rejected rows not listed", response.getRejected() - response.getRejects().size());
+        }
+        log.info("Import of {} finished: received={}, imported={}, rejected={}, elapsedMillis={}, rowsPerSecond={}",
+            file, response.getReceived(), response.getImported(), response.getRejected(),
+            response.getElapsedMillis(), response.getRowsPerSecond());
+
+        int exitCode = response.getRejected() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -0,0 +1,77 @@
+package com.savinco.financial.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.savinco.financial.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Primary and replica connection pools behind one routing {@link DataSource}, enabled with
+ * {@code financial.datasource.replica.enabled}. The primary keeps the usual
+ * {@code spring.datasource} settings; the replica is configured under
+ * {@code financial.datasource.replica} with its own Hikari sizing.
+ *
+ * Defining the data source here replaces Spring Boot's auto-configured one, so JPA, Flyway and
+ * the health checks all go through the router.
+ */
+@Configuration
+@ConditionalOnProperty(name = "financial.datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource dataSource = primaryDataSourceProperties().initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("financial.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("financial.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = replicaDataSourceProperties().initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(MeterRegistry meterRegistry) {
+        HikariDataSource replica = replicaDataSource();
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(primaryDataSource(), replica, meterRegistry);
+        router.afterPropertiesSet();
+        log.info("Routing read-only service transactions to replica: url={}", replica.getJdbcUrl());
+        // Defers choosing the pool until the first statement, when the transaction attributes are known
+        return new LazyConnectionDataSourceProxy(router);
+    }
+}
@@ -0,0 +1,17 @@
+package com.savinco.financial.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.savinco.financial.infrastructure.persistence.monitoring.StatementCounter;
+
+@Configuration
+public class StatementCounterConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+}
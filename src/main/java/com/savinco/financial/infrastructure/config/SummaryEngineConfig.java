@@ -0,0 +1,43 @@
+package com.savinco.financial.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.savinco.financial.application.service.IncrementalSummaryEngine;
+import com.savinco.financial.application.service.JavaSummaryEngine;
+import com.savinco.financial.application.service.SqlSummaryEngine;
+import com.savinco.financial.application.service.SummaryEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Selects the summary engine injected wherever a {@link SummaryEngine} is required.
+ * The Java and SQL engines stay registered so they can be compared against each other; the
+ * incremental engine only exists when selected, since it keeps the summary in memory.
+ */
+@Configuration
+@Slf4j
+public class SummaryEngineConfig {
+
+    @Bean
+    @Primary
+    public SummaryEngine summaryEngine(@Value("${financial.summary.engine:java}") String engine,
+                                       JavaSummaryEngine javaSummaryEngine,
+                                       SqlSummaryEngine sqlSummaryEngine,
+                                       ObjectProvider<IncrementalSummaryEngine> incrementalSummaryEngine) {
+        log.info("Using {} summary engine", engine);
+        SummaryEngine selected = switch (engine) {
+            case "java" -> javaSummaryEngine;
+            case "sql" -> sqlSummaryEngine;
+            case "incremental" -> incrementalSummaryEngine.getObject();
+            default -> throw new IllegalStateException(
+                "Unknown summary engine: " + engine + " (expected java, sql or incremental)");
+        };
+        // Returning the engine itself would register it under a second bean name too, and the
+        // incremental engine's event listeners would then run twice for every event
+        return selected::summarize;
+    }
+}
@@ -0,0 +1,92 @@
+package com.savinco.financial.infrastructure.monitoring;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public method of the application services and of the JPA repository adapters,
+ * as {@code financial.service.calls} and {@code financial.repository.calls}.
+ *
+ * Tags are bounded by the code, not by the data: {@code class}, {@code method} and
+ * {@code outcome}, which follows the status the exception would be answered with
+ * ({@code SUCCESS}, {@code CLIENT_ERROR} or {@code SERVER_ERROR}). Arguments such as country
+ * and currency codes are never tags, since unvalidated request values reach these methods.
+ * Percentile histograms and SLO buckets are set per meter name under
+ * {@code management.metrics.distribution}.
+ *
+ * {@code CurrencyConverterService} is left out: it converts one amount per call, inside loops
+ * that are already timed as a whole.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "financial.metrics.method-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+
+    private static final String SERVICE_TIMER = "financial.service.calls";
+    private static final String REPOSITORY_TIMER = "financial.repository.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    // Registering a timer sorts and copies its tags; look each one up once per method
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.savinco.financial.application.service.*Service.*(..))"
+        + " && !within(com.savinco.financial.application.service.CurrencyConverterService)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.savinco.financial.infrastructure.persistence.repository.Jpa*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        // Null while the method succeeds
+        String outcome = null;
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException | IllegalStateException | OptimisticLockingFailureException e) {
+            // Answered with a 4xx by GlobalExceptionHandler
+            outcome = "CLIENT_ERROR";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "SERVER_ERROR";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            // Failure timers are only registered once a method fails, so each carries its own histogram only when needed
+            Timer timer = outcome == null
+                ? successTimers.computeIfAbsent(method, m -> timer(name, m, "SUCCESS"))
+                : timer(name, method, outcome);
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, Method method, String outcome) {
+        return Timer.builder(name)
+            .tag("class", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
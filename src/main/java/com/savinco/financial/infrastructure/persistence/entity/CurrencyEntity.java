@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class CurrencyEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "currencies_seq")
+    @SequenceGenerator(name = "currencies_seq", sequenceName = "currencies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "code", nullable = false, length = 3, unique = true)
@@ -40,6 +41,10 @@ public class CurrencyEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
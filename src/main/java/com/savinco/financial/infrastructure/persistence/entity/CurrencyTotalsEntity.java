@@ -0,0 +1,37 @@
+package com.savinco.financial.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Sums of the financial data in one currency. Written only with native statements that add
+ * the difference of each write, never loaded for update.
+ */
+@Entity
+@Table(name = "currency_totals")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrencyTotalsEntity {
+    @Id
+    @Column(name = "currency_id")
+    private Long currencyId;
+
+    @Column(name = "country_count", nullable = false)
+    private Long countryCount;
+
+    @Column(name = "capital_saved", nullable = false, precision = 38, scale = 2)
+    private BigDecimal capitalSaved;
+
+    @Column(name = "capital_loaned", nullable = false, precision = 38, scale = 2)
+    private BigDecimal capitalLoaned;
+
+    @Column(name = "profits_generated", nullable = false, precision = 38, scale = 2)
+    private BigDecimal profitsGenerated;
+}
@@ -0,0 +1,37 @@
+package com.savinco.financial.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "exchange_rate_history", indexes = {
+    @Index(name = "idx_exchange_rate_history_currency_from", columnList = "currency_code, valid_from")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateHistoryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exchange_rate_history_seq")
+    @SequenceGenerator(name = "exchange_rate_history_seq", sequenceName = "exchange_rate_history_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "currency_code", nullable = false, length = 3)
+    private String currencyCode;
+
+    @Column(name = "exchange_rate_to_base", nullable = false, precision = 19, scale = 10)
+    private BigDecimal exchangeRateToBase;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to")
+    private LocalDateTime validTo;
+}
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class FinancialDataEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "financial_data_seq")
+    @SequenceGenerator(name = "financial_data_seq", sequenceName = "financial_data_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "country_code", nullable = false, length = 3)
@@ -49,6 +50,10 @@ public class FinancialDataEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,50 @@
+package com.savinco.financial.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "financial_data_history", indexes = {
+    @Index(name = "idx_financial_data_history_period_country", columnList = "period_start, country_code")
+})
+@IdClass(FinancialDataHistoryId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialDataHistoryEntity {
+    @Id
+    @Column(name = "country_code", nullable = false, length = 3)
+    private String countryCode;
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "currency_code", nullable = false, length = 3)
+    private String currencyCode;
+
+    @Column(name = "capital_saved", nullable = false, precision = 19, scale = 2)
+    private BigDecimal capitalSaved;
+
+    @Column(name = "capital_loaned", nullable = false, precision = 19, scale = 2)
+    private BigDecimal capitalLoaned;
+
+    @Column(name = "profits_generated", nullable = false, precision = 19, scale = 2)
+    private BigDecimal profitsGenerated;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        recordedAt = LocalDateTime.now();
+    }
+}
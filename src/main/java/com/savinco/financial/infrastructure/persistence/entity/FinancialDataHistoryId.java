@@ -0,0 +1,16 @@
+package com.savinco.financial.infrastructure.persistence.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialDataHistoryId implements Serializable {
+    private String countryCode;
+    private LocalDate periodStart;
+}
@@ -0,0 +1,57 @@
+package com.savinco.financial.infrastructure.persistence.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #begin()}
+ * and {@link #end(int)}. Counts nest: a count begun while another one runs shares its counter,
+ * and only the outermost {@code end} stops counting.
+ *
+ * Registered as the statement inspector of the session factory, so every JPQL, derived and
+ * native query is seen; statements sent straight through JDBC (the COPY and staging inserts of
+ * the CSV import) are not. Outside a count the inspector only reads a thread local.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    // Mark of the outermost count, which owns the thread local
+    private static final int OUTERMOST = -1;
+
+    /**
+     * Starts counting on the current thread and returns the mark to pass to {@link #end(int)}.
+     */
+    public static int begin() {
+        int[] count = COUNT.get();
+        if (count == null) {
+            COUNT.set(new int[1]);
+            return OUTERMOST;
+        }
+        return count[0];
+    }
+
+    /**
+     * Returns the number of statements since the {@link #begin()} that returned {@code mark},
+     * and stops counting on the current thread if it was the outermost one.
+     */
+    public static int end(int mark) {
+        int[] count = COUNT.get();
+        if (count == null) {
+            return 0;
+        }
+        if (mark == OUTERMOST) {
+            COUNT.remove();
+            return count[0];
+        }
+        return count[0] - mark;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
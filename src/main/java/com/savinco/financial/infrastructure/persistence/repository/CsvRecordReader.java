@@ -0,0 +1,88 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader with the same field semantics as PostgreSQL {@code COPY ... (FORMAT csv)}:
+ * an unquoted empty field is null and a quoted one is the empty string. Reads one character past
+ * a record at most and pushes it back, so after a record the underlying reader is positioned at
+ * the start of the next one.
+ */
+class CsvRecordReader {
+
+    private final PushbackReader reader;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = new PushbackReader(reader, 1);
+    }
+
+    /**
+     * The reader to hand to another consumer once the records read so far have been taken.
+     */
+    Reader remaining() {
+        return reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at the end of the input.
+     *
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    List<String> next() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                readQuoted(field);
+                c = reader.read();
+                continue;
+            }
+            if (c == ',' || c == '\n' || c == '\r' || c == -1) {
+                fields.add(quoted || !field.isEmpty() ? field.toString() : null);
+                if (c != ',') {
+                    if (c == '\r') {
+                        int lf = reader.read();
+                        if (lf != '\n' && lf != -1) {
+                            reader.unread(lf);
+                        }
+                    }
+                    return fields;
+                }
+                field.setLength(0);
+                quoted = false;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                throw new IllegalArgumentException("Unterminated quoted field in CSV");
+            }
+            if (c == '"') {
+                int following = reader.read();
+                if (following != '"') {
+                    if (following != -1) {
+                        reader.unread(following);
+                    }
+                    return;
+                }
+            }
+            field.append((char) c);
+        }
+    }
+}
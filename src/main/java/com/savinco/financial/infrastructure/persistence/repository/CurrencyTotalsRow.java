@@ -0,0 +1,13 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyEntity;
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyTotalsEntity;
+
+/**
+ * Totals of one currency joined to the currency, so its rate comes with the same result set.
+ */
+public record CurrencyTotalsRow(
+    CurrencyTotalsEntity totals,
+    CurrencyEntity currency
+) {
+}
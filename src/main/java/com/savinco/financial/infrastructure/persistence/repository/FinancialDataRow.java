@@ -0,0 +1,16 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import com.savinco.financial.infrastructure.persistence.entity.CountryEntity;
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyEntity;
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataEntity;
+
+/**
+ * One row of financial data joined to its country and currency.
+ * Lets the adapter hydrate the full aggregate from a single result set.
+ */
+public record FinancialDataRow(
+    FinancialDataEntity financialData,
+    CountryEntity country,
+    CurrencyEntity currency
+) {
+}
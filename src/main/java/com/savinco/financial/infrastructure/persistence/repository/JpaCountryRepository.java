@@ -38,19 +38,19 @@ public class JpaCountryRepository implements CountryRepository {
     @Override
     public Optional<Country> findById(Long id) {
         return springDataRepository.findById(id)
-            .map(this::toDomain);
+            .map(JpaCountryRepository::toDomain);
     }
 
     @Override
     public Optional<Country> findByCode(CountryCode code) {
         return springDataRepository.findByCode(code.getValue())
-            .map(this::toDomain);
+            .map(JpaCountryRepository::toDomain);
     }
 
     @Override
     public List<Country> findAll() {
         return springDataRepository.findAll().stream()
-            .map(this::toDomain)
+            .map(JpaCountryRepository::toDomain)
             .toList();
     }
 
@@ -66,7 +66,7 @@ public class JpaCountryRepository implements CountryRepository {
 
     @Override
     public void deleteById(Long id) {
-        springDataRepository.deleteById(id);
+        springDataRepository.deleteRowById(id);
     }
 
     @Override
@@ -86,7 +86,7 @@ public class JpaCountryRepository implements CountryRepository {
             .build();
     }
 
-    private Country toDomain(@NonNull CountryEntity entity) {
+    static Country toDomain(@NonNull CountryEntity entity) {
         CountryPrimitives primitives = CountryPrimitives.builder()
             .id(entity.getId())
             .code(entity.getCode())
@@ -27,8 +27,9 @@ public class JpaCurrencyRepository implements CurrencyRepository {
     @SuppressWarnings("null")
     public Currency save(Currency currency) {
         CurrencyEntity entity = toEntity(currency);
+        // Flushed so the returned version (and the ETag built from it) is the one just written
         CurrencyEntity saved = Objects.requireNonNull(
-            springDataRepository.save(entity),
+            springDataRepository.saveAndFlush(entity),
             "Failed to save currency entity"
         );
         return toDomain(saved);
@@ -37,26 +38,26 @@ public class JpaCurrencyRepository implements CurrencyRepository {
     @Override
     public Optional<Currency> findById(Long id) {
         return springDataRepository.findById(id)
-            .map(this::toDomain);
+            .map(JpaCurrencyRepository::toDomain);
     }
 
     @Override
     public Optional<Currency> findByCode(CurrencyCode code) {
         return springDataRepository.findByCode(code.getValue())
-            .map(this::toDomain);
+            .map(JpaCurrencyRepository::toDomain);
     }
 
     @Override
     public List<Currency> findAll() {
         return springDataRepository.findAll().stream()
-            .map(this::toDomain)
+            .map(JpaCurrencyRepository::toDomain)
             .toList();
     }
 
     @Override
     public Optional<Currency> findBaseCurrency() {
         return springDataRepository.findByIsBaseTrue()
-            .map(this::toDomain);
+            .map(JpaCurrencyRepository::toDomain);
     }
 
     @Override
@@ -71,7 +72,7 @@ public class JpaCurrencyRepository implements CurrencyRepository {
 
     @Override
     public void deleteById(Long id) {
-        springDataRepository.deleteById(id);
+        springDataRepository.deleteRowById(id);
     }
 
     @Override
@@ -89,10 +90,11 @@ public class JpaCurrencyRepository implements CurrencyRepository {
             .exchangeRateToBase(primitives.getExchangeRateToBase())
             .createdAt(domain.getCreatedAt())
             .updatedAt(domain.getUpdatedAt())
+            .version(domain.getVersion())
             .build();
     }
 
-    private Currency toDomain(@NonNull CurrencyEntity entity) {
+    static Currency toDomain(@NonNull CurrencyEntity entity) {
         CurrencyPrimitives primitives = CurrencyPrimitives.builder()
             .id(entity.getId())
             .code(entity.getCode())
@@ -108,7 +110,8 @@ public class JpaCurrencyRepository implements CurrencyRepository {
             primitives.getIsBase(),
             primitives.getExchangeRateToBase(),
             entity.getCreatedAt(),
-            entity.getUpdatedAt()
+            entity.getUpdatedAt(),
+            entity.getVersion()
         );
     }
 }
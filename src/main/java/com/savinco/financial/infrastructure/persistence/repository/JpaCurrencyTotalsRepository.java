@@ -0,0 +1,163 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.savinco.financial.domain.model.CurrencyTotals;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.repository.CurrencyTotalsRepository;
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyTotalsEntity;
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the per-currency totals and, for the financial data adapters, adjusts
+ * them by the difference of each write. Adjustments are {@code total = total + delta} on the
+ * row of the currency, so concurrent writers serialize on that row instead of losing updates.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JpaCurrencyTotalsRepository implements CurrencyTotalsRepository {
+
+    private static final String COLUMNS = "currency_id, country_count, capital_saved, capital_loaned, profits_generated";
+    private static final String VALUES = ":currencyId, :countries, :capitalSaved, :capitalLoaned, :profitsGenerated";
+    private static final String RECOUNT_SQL = "INSERT INTO currency_totals (" + COLUMNS + ") "
+        + "SELECT currency_id, COUNT(*), SUM(capital_saved), SUM(capital_loaned), SUM(profits_generated) "
+        + "FROM financial_data GROUP BY currency_id";
+
+    private final SpringDataCurrencyTotalsRepository springDataRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<CurrencyTotals> findAll() {
+        return springDataRepository.findAllRows().stream()
+            .map(row -> new CurrencyTotals(
+                JpaCurrencyRepository.toDomain(row.currency()),
+                row.totals().getCountryCount(),
+                row.totals().getCapitalSaved(),
+                row.totals().getCapitalLoaned(),
+                row.totals().getProfitsGenerated()
+            ))
+            .toList();
+    }
+
+    /**
+     * Adds the deltas to the totals of their currencies, one statement per currency whose totals
+     * change. Currencies are adjusted in id order, so two writers never wait on each other's rows
+     * in opposite orders.
+     */
+    public void apply(List<Delta> deltas) {
+        Map<Long, Delta> byCurrency = new TreeMap<>();
+        deltas.forEach(delta -> byCurrency.merge(delta.currencyId(), delta, Delta::plus));
+        String sql = null;
+        for (Delta delta : byCurrency.values()) {
+            if (delta.isZero()) {
+                continue;
+            }
+            if (sql == null) {
+                sql = applySql();
+            }
+            totalsQuery(sql)
+                .setParameter("currencyId", delta.currencyId())
+                .setParameter("countries", delta.countries())
+                .setParameter("capitalSaved", delta.capitalSaved())
+                .setParameter("capitalLoaned", delta.capitalLoaned())
+                .setParameter("profitsGenerated", delta.profitsGenerated())
+                .executeUpdate();
+        }
+    }
+
+    /**
+     * Recomputes every total from financial_data, for set-based writes whose previous values are
+     * not known row by row. The totals rows are locked first: writers already holding them
+     * commit before the recount reads financial_data, and later ones add their delta on top.
+     */
+    public void recount() {
+        totalsQuery("SELECT currency_id FROM currency_totals ORDER BY currency_id FOR UPDATE").getResultList();
+        totalsQuery("DELETE FROM currency_totals").executeUpdate();
+        Query recount = totalsQuery(RECOUNT_SQL);
+        recount.unwrap(NativeQuery.class).addSynchronizedEntityClass(FinancialDataEntity.class);
+        recount.executeUpdate();
+    }
+
+    public void deleteAll() {
+        totalsQuery("DELETE FROM currency_totals").executeUpdate();
+    }
+
+    private String applySql() {
+        Dialect dialect = dialect();
+        if (dialect instanceof PostgreSQLDialect) {
+            return "INSERT INTO currency_totals (" + COLUMNS + ") VALUES (" + VALUES + ") "
+                + "ON CONFLICT (currency_id) DO UPDATE SET "
+                + "country_count = currency_totals.country_count + EXCLUDED.country_count, "
+                + "capital_saved = currency_totals.capital_saved + EXCLUDED.capital_saved, "
+                + "capital_loaned = currency_totals.capital_loaned + EXCLUDED.capital_loaned, "
+                + "profits_generated = currency_totals.profits_generated + EXCLUDED.profits_generated";
+        }
+        if (dialect instanceof H2Dialect) {
+            return "MERGE INTO currency_totals t "
+                + "USING (SELECT CAST(:currencyId AS BIGINT) AS currency_id) s ON t.currency_id = s.currency_id "
+                + "WHEN MATCHED THEN UPDATE SET country_count = t.country_count + :countries, "
+                + "capital_saved = t.capital_saved + :capitalSaved, capital_loaned = t.capital_loaned + :capitalLoaned, "
+                + "profits_generated = t.profits_generated + :profitsGenerated "
+                + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (" + VALUES + ")";
+        }
+        throw new IllegalStateException("Currency totals are not supported for dialect: " + dialect.getClass().getSimpleName());
+    }
+
+    // Declares currency_totals as the only table written, so Hibernate does not flush or invalidate anything else
+    private Query totalsQuery(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(CurrencyTotalsEntity.class);
+        return query;
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+    }
+
+    /**
+     * Change to the totals of one currency.
+     */
+    public record Delta(long currencyId, long countries, BigDecimal capitalSaved,
+                 BigDecimal capitalLoaned, BigDecimal profitsGenerated) {
+
+        public static Delta added(FinancialData data) {
+            return new Delta(data.getCurrency().getId().getValue(), 1,
+                data.getCapitalSaved(), data.getCapitalLoaned(), data.getProfitsGenerated());
+        }
+
+        public Delta negate() {
+            return new Delta(currencyId, -countries, capitalSaved.negate(), capitalLoaned.negate(), profitsGenerated.negate());
+        }
+
+        public Delta plus(Delta other) {
+            return new Delta(currencyId, countries + other.countries,
+                capitalSaved.add(other.capitalSaved),
+                capitalLoaned.add(other.capitalLoaned),
+                profitsGenerated.add(other.profitsGenerated));
+        }
+
+        public boolean isZero() {
+            return countries == 0
+                && capitalSaved.signum() == 0
+                && capitalLoaned.signum() == 0
+                && profitsGenerated.signum() == 0;
+        }
+    }
+}
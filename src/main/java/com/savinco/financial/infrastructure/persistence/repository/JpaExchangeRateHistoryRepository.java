@@ -0,0 +1,59 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.ExchangeRatePeriod;
+import com.savinco.financial.domain.repository.ExchangeRateHistoryRepository;
+import com.savinco.financial.infrastructure.persistence.entity.ExchangeRateHistoryEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaExchangeRateHistoryRepository implements ExchangeRateHistoryRepository {
+
+    private final SpringDataExchangeRateHistoryRepository springDataRepository;
+
+    @Override
+    public void open(CurrencyCode currencyCode, BigDecimal exchangeRateToBase, LocalDateTime validFrom) {
+        springDataRepository.closeOpenPeriod(currencyCode.getValue(), validFrom);
+        springDataRepository.save(ExchangeRateHistoryEntity.builder()
+            .currencyCode(currencyCode.getValue())
+            .exchangeRateToBase(exchangeRateToBase)
+            .validFrom(validFrom)
+            .build());
+    }
+
+    @Override
+    public List<ExchangeRatePeriod> findAll() {
+        return springDataRepository.findAllByOrderByCurrencyCodeAscValidFromAsc().stream()
+            .map(JpaExchangeRateHistoryRepository::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<ExchangeRatePeriod> findByCurrencyCode(CurrencyCode currencyCode) {
+        return springDataRepository.findByCurrencyCodeOrderByValidFromAsc(currencyCode.getValue()).stream()
+            .map(JpaExchangeRateHistoryRepository::toDomain)
+            .toList();
+    }
+
+    @Override
+    public void deleteAll() {
+        springDataRepository.deleteAllInBatch();
+    }
+
+    private static ExchangeRatePeriod toDomain(ExchangeRateHistoryEntity entity) {
+        return new ExchangeRatePeriod(
+            new CurrencyCode(entity.getCurrencyCode()),
+            entity.getExchangeRateToBase(),
+            entity.getValidFrom(),
+            entity.getValidTo()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.FinancialDataSnapshot;
+import com.savinco.financial.domain.repository.FinancialDataHistoryRepository;
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataHistoryEntity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaFinancialDataHistoryRepository implements FinancialDataHistoryRepository {
+
+    private final SpringDataFinancialDataHistoryRepository springDataRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public void record(List<FinancialDataSnapshot> snapshots) {
+        // Delete + insert instead of merge: one statement per period for the replaced rows,
+        // and the inserts are batched, rather than a SELECT per snapshot
+        Map<YearMonth, List<FinancialDataSnapshot>> byPeriod = snapshots.stream()
+            .collect(Collectors.groupingBy(FinancialDataSnapshot::getPeriod));
+        byPeriod.forEach((period, periodSnapshots) -> springDataRepository.deleteByPeriodStartAndCountryCodes(
+            period.atDay(1),
+            periodSnapshots.stream().map(snapshot -> snapshot.getCountryCode().getValue()).toList()
+        ));
+        snapshots.forEach(snapshot -> entityManager.persist(toEntity(snapshot)));
+    }
+
+    @Override
+    public List<FinancialDataSnapshot> findByPeriodRange(YearMonth from, YearMonth to) {
+        return springDataRepository.findByPeriodStartBetweenOrderByPeriodStartAscCountryCodeAsc(
+                from.atDay(1), to.atDay(1)).stream()
+            .map(JpaFinancialDataHistoryRepository::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<FinancialDataSnapshot> findByCountryAndPeriodRange(CountryCode countryCode, YearMonth from, YearMonth to) {
+        return springDataRepository.findByCountryCodeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                countryCode.getValue(), from.atDay(1), to.atDay(1)).stream()
+            .map(JpaFinancialDataHistoryRepository::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<FinancialDataSnapshot> findLatestPerCountry(YearMonth asOf) {
+        return springDataRepository.findLatestPerCountry(asOf.atDay(1)).stream()
+            .map(JpaFinancialDataHistoryRepository::toDomain)
+            .toList();
+    }
+
+    @Override
+    public void deleteAll() {
+        springDataRepository.deleteAllInBatch();
+    }
+
+    private static FinancialDataHistoryEntity toEntity(FinancialDataSnapshot snapshot) {
+        return FinancialDataHistoryEntity.builder()
+            .countryCode(snapshot.getCountryCode().getValue())
+            .periodStart(snapshot.getPeriod().atDay(1))
+            .currencyCode(snapshot.getCurrencyCode().getValue())
+            .capitalSaved(snapshot.getCapitalSaved())
+            .capitalLoaned(snapshot.getCapitalLoaned())
+            .profitsGenerated(snapshot.getProfitsGenerated())
+            .build();
+    }
+
+    private static FinancialDataSnapshot toDomain(FinancialDataHistoryEntity entity) {
+        LocalDate periodStart = entity.getPeriodStart();
+        return new FinancialDataSnapshot(
+            new CountryCode(entity.getCountryCode()),
+            YearMonth.from(periodStart),
+            new CurrencyCode(entity.getCurrencyCode()),
+            entity.getCapitalSaved(),
+            entity.getCapitalLoaned(),
+            entity.getProfitsGenerated(),
+            entity.getRecordedAt()
+        );
+    }
+}
@@ -0,0 +1,305 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.savinco.financial.domain.model.CountryCode;
+import com.savinco.financial.domain.model.FinancialDataImport;
+import com.savinco.financial.domain.repository.FinancialDataImportRepository;
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CSV import through a temporary staging table that is dropped at commit.
+ *
+ * On PostgreSQL the file is streamed into the staging table with {@code COPY}; on H2 (tests)
+ * it is parsed here and inserted with JDBC batches. Everything after loading is plain SQL over
+ * the whole staging table: one statement marks invalid rows, one marks repeated countries and
+ * one merges the remaining rows into financial_data.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JpaFinancialDataImportRepository implements FinancialDataImportRepository {
+
+    private static final String STAGING_TABLE = "financial_data_import";
+
+    // CSV header name -> staging column; amounts are staged as text so bad values become rejects
+    private static final Map<String, String> COLUMNS = Map.of(
+        "countryCode", "country_code",
+        "currencyCode", "currency_code",
+        "capitalSaved", "capital_saved",
+        "capitalLoaned", "capital_loaned",
+        "profitsGenerated", "profits_generated"
+    );
+
+    // Fits NUMERIC(19,2) and is non-negative
+    private static final String AMOUNT_PATTERN = "^[0-9]{1,17}([.][0-9]{1,2})?$";
+
+    private static final String ID_SEQUENCE = "financial_data_id_seq";
+    private static final String MERGE_COLUMNS = "id, country_id, country_code, currency_id, currency_code, "
+        + "capital_saved, capital_loaned, profits_generated, created_at, updated_at, version";
+
+    private final EntityManager entityManager;
+    private final JpaCurrencyTotalsRepository currencyTotals;
+
+    @Value("${financial.import.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public FinancialDataImport importCsv(Reader csv, int maxReportedRejects) {
+        Dialect dialect = dialect();
+        if (!(dialect instanceof PostgreSQLDialect) && !(dialect instanceof H2Dialect)) {
+            throw new IllegalStateException("Financial data import is not supported for dialect: " + dialect.getClass().getSimpleName());
+        }
+
+        CsvRecordReader records = new CsvRecordReader(csv);
+        List<String> stagingColumns = stagingColumns(readHeader(records));
+        createStagingTable(dialect, stagingColumns);
+        long received = dialect instanceof PostgreSQLDialect
+            ? copy(stagingColumns, records.remaining())
+            : insertBatches(stagingColumns, records);
+
+        markInvalidRows(dialect);
+        markRepeatedCountries();
+        merge(dialect);
+
+        @SuppressWarnings("unchecked")
+        List<String> imported = stagingQuery("SELECT country_code FROM " + STAGING_TABLE
+            + " WHERE reject_reason IS NULL ORDER BY country_code").getResultList();
+        long rejected = ((Number) stagingQuery("SELECT COUNT(*) FROM " + STAGING_TABLE
+            + " WHERE reject_reason IS NOT NULL").getSingleResult()).longValue();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rejects = stagingQuery("SELECT line_number, country_code, reject_reason FROM " + STAGING_TABLE
+            + " WHERE reject_reason IS NOT NULL ORDER BY line_number")
+            .setMaxResults(maxReportedRejects)
+            .getResultList();
+
+        return new FinancialDataImport(
+            received,
+            imported.stream().map(CountryCode::new).toList(),
+            rejected,
+            rejects.stream()
+                .map(row -> new FinancialDataImport.Reject(((Number) row[0]).longValue(), (String) row[1], (String) row[2]))
+                .toList()
+        );
+    }
+
+    private static List<String> readHeader(CsvRecordReader records) {
+        try {
+            List<String> header = records.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV is empty; a header line is required");
+            }
+            return header;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the header to staging columns in file order. Unknown columns are staged as
+     * {@code ignored_N} so that files with extra columns, such as exports, can be loaded as is.
+     */
+    private static List<String> stagingColumns(List<String> header) {
+        List<String> columns = new ArrayList<>(header.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i) == null ? "" : header.get(i).trim();
+            if (!seen.add(name)) {
+                throw new IllegalArgumentException("Duplicate CSV column: " + name);
+            }
+            columns.add(COLUMNS.getOrDefault(name, "ignored_" + i));
+        }
+        for (Map.Entry<String, String> column : COLUMNS.entrySet()) {
+            if (!columns.contains(column.getValue())) {
+                throw new IllegalArgumentException("Missing CSV column: " + column.getKey());
+            }
+        }
+        return columns;
+    }
+
+    private void createStagingTable(Dialect dialect, List<String> stagingColumns) {
+        StringBuilder ddl = new StringBuilder();
+        if (dialect instanceof PostgreSQLDialect) {
+            // COPY fills line_number from the identity in file order
+            ddl.append("CREATE TEMPORARY TABLE ").append(STAGING_TABLE)
+                .append(" (line_number BIGINT GENERATED ALWAYS AS IDENTITY");
+        } else {
+            ddl.append("CREATE LOCAL TEMPORARY TABLE ").append(STAGING_TABLE).append(" (line_number BIGINT");
+        }
+        for (String column : stagingColumns) {
+            ddl.append(", ").append(column).append(" VARCHAR");
+        }
+        ddl.append(", reject_reason VARCHAR) ON COMMIT DROP");
+        if (dialect instanceof H2Dialect) {
+            // Otherwise H2 commits the running transaction before creating the table
+            ddl.append(" TRANSACTIONAL");
+        }
+        stagingQuery(ddl.toString()).executeUpdate();
+    }
+
+    private long copy(List<String> stagingColumns, Reader rows) {
+        String sql = "COPY " + STAGING_TABLE + " (" + String.join(", ", stagingColumns) + ") FROM STDIN WITH (FORMAT csv)";
+        long copied = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                // Structural errors (wrong field count, bad quoting) abort COPY; the message names the line
+                throw new IllegalArgumentException("Invalid CSV: " + e.getMessage(), e);
+            }
+        });
+        // Temporary tables are never analyzed automatically; without statistics the checks below plan poorly
+        stagingQuery("ANALYZE " + STAGING_TABLE).executeUpdate();
+        return copied;
+    }
+
+    private long insertBatches(List<String> stagingColumns, CsvRecordReader records) {
+        String sql = "INSERT INTO " + STAGING_TABLE + " (line_number, " + String.join(", ", stagingColumns) + ") VALUES (?"
+            + ", ?".repeat(stagingColumns.size()) + ")";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            long line = 0;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                List<String> fields;
+                while ((fields = records.next()) != null) {
+                    line++;
+                    if (fields.size() != stagingColumns.size()) {
+                        throw new IllegalArgumentException("Invalid CSV: row " + line + " has " + fields.size()
+                            + " fields, expected " + stagingColumns.size());
+                    }
+                    statement.setLong(1, line);
+                    for (int i = 0; i < fields.size(); i++) {
+                        statement.setString(i + 2, fields.get(i));
+                    }
+                    statement.addBatch();
+                    if (line % batchSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return line;
+        });
+    }
+
+    /**
+     * Records the first failing check of every row, in the order the single-row API checks them.
+     */
+    private void markInvalidRows(Dialect dialect) {
+        stagingQuery("UPDATE " + STAGING_TABLE + " SET reject_reason = CASE "
+            + "WHEN country_code IS NULL OR country_code = '' THEN 'Country code is required' "
+            + "WHEN currency_code IS NULL OR currency_code = '' THEN 'Currency code is required' "
+            + "WHEN capital_saved IS NULL OR NOT " + matchesAmount(dialect, "capital_saved")
+            + " THEN 'Capital saved must be a non-negative amount with at most 2 decimals' "
+            + "WHEN capital_loaned IS NULL OR NOT " + matchesAmount(dialect, "capital_loaned")
+            + " THEN 'Capital loaned must be a non-negative amount with at most 2 decimals' "
+            + "WHEN profits_generated IS NULL OR NOT " + matchesAmount(dialect, "profits_generated")
+            + " THEN 'Profits generated must be a non-negative amount with at most 2 decimals' "
+            // NOT IN over small reference tables is planned as a hashed lookup, not a probe per row
+            + "WHEN country_code NOT IN (SELECT code FROM countries) "
+            + "THEN 'Country not found with code: ' || country_code "
+            + "WHEN currency_code NOT IN (SELECT code FROM currencies) "
+            + "THEN 'Currency not found with code: ' || currency_code "
+            + "WHEN (country_code, currency_code) NOT IN ("
+            + "SELECT c.code, cu.code FROM countries c JOIN currencies cu ON cu.id = c.currency_id) "
+            + "THEN 'Currency ' || currency_code || ' does not match country ' || country_code "
+            + "END").executeUpdate();
+    }
+
+    /**
+     * Rejects every valid row of a country but the first, so the merge writes each country once.
+     */
+    private void markRepeatedCountries() {
+        stagingQuery("UPDATE " + STAGING_TABLE + " SET reject_reason = 'Duplicate country in file: ' || country_code "
+            + "WHERE line_number IN (SELECT line_number FROM ("
+            + "SELECT line_number, ROW_NUMBER() OVER (PARTITION BY country_code ORDER BY line_number) AS occurrence "
+            + "FROM " + STAGING_TABLE + " WHERE reject_reason IS NULL) repeated WHERE occurrence > 1)").executeUpdate();
+    }
+
+    private void merge(Dialect dialect) {
+        String nextId = dialect.getSequenceSupport().getSelectSequenceNextValString(ID_SEQUENCE);
+        String valid = "SELECT c.id AS country_id, s.country_code, cu.id AS currency_id, s.currency_code, "
+            + "CAST(s.capital_saved AS NUMERIC(19, 2)) AS capital_saved, "
+            + "CAST(s.capital_loaned AS NUMERIC(19, 2)) AS capital_loaned, "
+            + "CAST(s.profits_generated AS NUMERIC(19, 2)) AS profits_generated "
+            + "FROM " + STAGING_TABLE + " s "
+            + "JOIN countries c ON c.code = s.country_code "
+            + "JOIN currencies cu ON cu.code = s.currency_code "
+            + "WHERE s.reject_reason IS NULL";
+
+        String sql;
+        if (dialect instanceof PostgreSQLDialect) {
+            sql = "INSERT INTO financial_data (" + MERGE_COLUMNS + ") "
+                + "SELECT " + nextId + ", v.country_id, v.country_code, v.currency_id, v.currency_code, "
+                + "v.capital_saved, v.capital_loaned, v.profits_generated, :now, :now, 0 FROM (" + valid + ") v "
+                + "ON CONFLICT (country_code) DO UPDATE SET currency_id = EXCLUDED.currency_id, "
+                + "currency_code = EXCLUDED.currency_code, capital_saved = EXCLUDED.capital_saved, "
+                + "capital_loaned = EXCLUDED.capital_loaned, profits_generated = EXCLUDED.profits_generated, "
+                + "updated_at = EXCLUDED.updated_at, version = financial_data.version + 1";
+        } else {
+            sql = "MERGE INTO financial_data t USING (" + valid + ") v ON t.country_code = v.country_code "
+                + "WHEN MATCHED THEN UPDATE SET currency_id = v.currency_id, currency_code = v.currency_code, "
+                + "capital_saved = v.capital_saved, capital_loaned = v.capital_loaned, "
+                + "profits_generated = v.profits_generated, updated_at = :now, version = t.version + 1 "
+                + "WHEN NOT MATCHED THEN INSERT (" + MERGE_COLUMNS + ") VALUES (" + nextId + ", v.country_id, "
+                + "v.country_code, v.currency_id, v.currency_code, v.capital_saved, v.capital_loaned, "
+                + "v.profits_generated, :now, :now, 0)";
+        }
+        Query query = entityManager.createNativeQuery(sql)
+            .setParameter("now", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        // Tell Hibernate the statement writes financial_data, so cached queries on it are invalidated
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(FinancialDataEntity.class);
+        query.executeUpdate();
+        // The merge does not tell which rows it replaced, so the totals are recounted in the same transaction
+        currencyTotals.recount();
+    }
+
+    private static String matchesAmount(Dialect dialect, String column) {
+        return dialect instanceof PostgreSQLDialect
+            ? "(" + column + " ~ '" + AMOUNT_PATTERN + "')"
+            : "REGEXP_LIKE(" + column + ", '" + AMOUNT_PATTERN + "')";
+    }
+
+    /**
+     * A native query that only touches the staging table, so Hibernate does not treat it as
+     * modifying (and invalidate caches of) every mapped table.
+     */
+    private Query stagingQuery(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(STAGING_TABLE);
+        return query;
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+    }
+}
@@ -1,46 +1,94 @@
 package com.savinco.financial.infrastructure.persistence.repository;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.savinco.financial.domain.model.ConsolidatedSummary;
 import com.savinco.financial.domain.model.Country;
 import com.savinco.financial.domain.model.CountryCode;
 import com.savinco.financial.domain.model.Currency;
-import com.savinco.financial.domain.model.CurrencyCode;
 import com.savinco.financial.domain.model.FinancialData;
-import com.savinco.financial.domain.repository.CountryRepository;
-import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.model.FinancialDataCursor;
+import com.savinco.financial.domain.model.FinancialDataExportRow;
+import com.savinco.financial.domain.model.FinancialDataFilter;
 import com.savinco.financial.domain.repository.FinancialDataRepository;
 import com.savinco.financial.infrastructure.persistence.entity.FinancialDataEntity;
+import com.savinco.financial.infrastructure.persistence.repository.JpaCurrencyTotalsRepository.Delta;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class JpaFinancialDataRepository implements FinancialDataRepository {
 
-    private final SpringDataFinancialDataRepository springDataRepository;
-    private final CountryRepository countryRepository;
-    private final CurrencyRepository currencyRepository;
+    // Per-country USD amounts plus window totals, so the whole summary is one statement and one pass
+    private static final String SUMMARY_SQL = "WITH usd AS ("
+        + "SELECT fd.country_code, c.name AS country_name, "
+        + toUsd("NULLIF(fd.capital_saved, 0)") + " AS capital_saved, "
+        + toUsd("NULLIF(fd.capital_loaned, 0)") + " AS capital_loaned, "
+        + toUsd("NULLIF(fd.profits_generated, 0)") + " AS profits_generated "
+        + "FROM financial_data fd "
+        + "JOIN countries c ON c.id = fd.country_id "
+        + "JOIN currencies cu ON cu.id = fd.currency_id) "
+        + "SELECT country_code, country_name, capital_saved, capital_loaned, profits_generated, "
+        + "SUM(capital_saved) OVER (), SUM(capital_loaned) OVER (), SUM(profits_generated) OVER () "
+        + "FROM usd ORDER BY country_code";
 
-    @Override
-    @SuppressWarnings("null")
-    public FinancialData save(FinancialData financialData) {
-        FinancialDataEntity entity = toEntity(financialData);
-        FinancialDataEntity saved = Objects.requireNonNull(
-            springDataRepository.save(entity),
-            "Failed to save financial data entity"
-        );
-        return toDomain(saved);
-    }
+    // Scalar columns only: nothing enters the persistence context, so a long cursor keeps memory flat
+    private static final String EXPORT_SQL = "SELECT fd.country_code, c.name, fd.currency_code, "
+        + "fd.capital_saved, fd.capital_loaned, fd.profits_generated "
+        + "FROM financial_data fd "
+        + "JOIN countries c ON c.id = fd.country_id "
+        + "ORDER BY fd.country_code";
+
+    private static final String ID_SEQUENCE = "financial_data_id_seq";
+    private static final String INSERT_COLUMNS = "id, country_id, country_code, currency_id, currency_code, "
+        + "capital_saved, capital_loaned, profits_generated, created_at, updated_at, version";
+    private static final String INSERT_VALUES = ":countryId, :countryCode, :currencyId, :currencyCode, "
+        + ":capitalSaved, :capitalLoaned, :profitsGenerated, :now, :now, 0";
+    private static final String UPDATE_IF_VERSION = "UPDATE financial_data SET country_id = :countryId, "
+        + "currency_id = :currencyId, currency_code = :currencyCode, capital_saved = :capitalSaved, "
+        + "capital_loaned = :capitalLoaned, profits_generated = :profitsGenerated, updated_at = :now, "
+        + "version = version + 1 "
+        + "WHERE country_code = :countryCode AND version = :expectedVersion";
+    private static final String RETURNED_COLUMNS = "id, created_at, updated_at, version";
+    // Locks the row of the country for the rest of the transaction and reads what it adds to the currency totals
+    private static final String LOCK_AMOUNTS = "SELECT currency_id, capital_saved, capital_loaned, profits_generated "
+        + "FROM financial_data WHERE country_code = :countryCode FOR UPDATE";
+    // A retry is only needed when a concurrent insert won, and again only if that row was deleted before it could be locked
+    private static final int UPSERT_ATTEMPTS = 3;
+
+    private final SpringDataFinancialDataRepository springDataRepository;
+    private final EntityManager entityManager;
+    // Every write adjusts the totals of the currencies it touches, in the same transaction
+    private final JpaCurrencyTotalsRepository currencyTotals;
 
     @Override
     public Optional<FinancialData> findByCountryCode(CountryCode countryCode) {
-        return springDataRepository.findByCountryCode(countryCode.getValue())
+        return springDataRepository.findRowByCountryCode(countryCode.getValue())
             .map(this::toDomain);
     }
 
@@ -55,20 +103,288 @@ public class JpaFinancialDataRepository implements FinancialDataRepository {
     }
 
     @Override
-    public void deleteByCountryCode(CountryCode countryCode) {
+    public boolean deleteByCountryCode(CountryCode countryCode) {
+        Optional<Delta> previous = lockAmounts(countryCode);
+        if (previous.isEmpty()) {
+            return false;
+        }
         springDataRepository.deleteByCountryCode(countryCode.getValue());
+        currencyTotals.apply(List.of(previous.get().negate()));
+        return true;
     }
 
     @Override
     public List<FinancialData> findAll() {
-        return springDataRepository.findAll().stream()
+        return springDataRepository.findAllRows().stream()
             .map(this::toDomain)
             .toList();
     }
 
     @Override
+    public List<CountryCode> findAllCountryCodes() {
+        return springDataRepository.findAllCountryCodes().stream()
+            .map(CountryCode::new)
+            .toList();
+    }
+
+    @Override
+    public void insertAll(List<FinancialData> financialData) {
+        if (financialData.isEmpty()) {
+            return;
+        }
+        // Ids come from the pooled sequence, so Hibernate groups these persists into JDBC batches on flush
+        springDataRepository.saveAll(financialData.stream().map(this::toEntity).toList());
+        currencyTotals.apply(financialData.stream().map(Delta::added).toList());
+    }
+
+    @Override
+    public List<FinancialData> findPage(FinancialDataFilter filter, FinancialDataCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(SpringDataFinancialDataRepository.SELECT_ROWS).append(" WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        // Keyset predicate: rows strictly after (countryCode, id) in index order
+        if (after != null) {
+            jpql.append(" AND (fd.countryCode > :afterCode OR (fd.countryCode = :afterCode AND fd.id > :afterId))");
+            parameters.put("afterCode", after.getCountryCode().getValue());
+            parameters.put("afterId", after.getId());
+        }
+        if (filter.getCurrencyCode() != null) {
+            jpql.append(" AND fd.currencyCode = :currencyCode");
+            parameters.put("currencyCode", filter.getCurrencyCode().getValue());
+        }
+        appendRange(jpql, parameters, "capitalSaved", filter.getMinCapitalSaved(), filter.getMaxCapitalSaved());
+        appendRange(jpql, parameters, "capitalLoaned", filter.getMinCapitalLoaned(), filter.getMaxCapitalLoaned());
+        appendRange(jpql, parameters, "profitsGenerated", filter.getMinProfitsGenerated(), filter.getMaxProfitsGenerated());
+        jpql.append(" ORDER BY fd.countryCode, fd.id");
+
+        TypedQuery<FinancialDataRow> query = entityManager.createQuery(jpql.toString(), FinancialDataRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setMaxResults(limit)
+            .getResultList()
+            .stream()
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public void exportAll(int fetchSize, Consumer<FinancialDataExportRow> consumer) {
+        @SuppressWarnings("unchecked")
+        Stream<Object[]> rows = entityManager.createNativeQuery(EXPORT_SQL)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+        try (rows) {
+            rows.forEach(row -> consumer.accept(new FinancialDataExportRow(
+                (String) row[0],
+                (String) row[1],
+                (String) row[2],
+                (BigDecimal) row[3],
+                (BigDecimal) row[4],
+                (BigDecimal) row[5]
+            )));
+        }
+    }
+
+    @Override
+    public ConsolidatedSummary summarizeInUSD() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SUMMARY_SQL).getResultList();
+        if (rows.isEmpty()) {
+            return ConsolidatedSummary.of(List.of());
+        }
+
+        List<ConsolidatedSummary.CountryTotals> byCountry = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            byCountry.add(new ConsolidatedSummary.CountryTotals(
+                (String) row[0],
+                (String) row[1],
+                toAmount(row[2]),
+                toAmount(row[3]),
+                toAmount(row[4])
+            ));
+        }
+        Object[] first = rows.get(0);
+        return new ConsolidatedSummary(toAmount(first[5]), toAmount(first[6]), toAmount(first[7]), byCountry);
+    }
+
+    @Override
+    public Optional<Long> findVersionByCountryCode(CountryCode countryCode) {
+        return springDataRepository.findVersionByCountryCode(countryCode.getValue());
+    }
+
+    @Override
+    public Optional<FinancialData> updateIfVersion(FinancialData financialData, long expectedVersion) {
+        Optional<Delta> previous = lockAmounts(financialData.getCountry().getCode());
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        String sql = dialect() instanceof PostgreSQLDialect
+            ? UPDATE_IF_VERSION + " RETURNING " + RETURNED_COLUMNS
+            // H2 has no RETURNING; selecting from the FINAL TABLE of the update is the same single statement
+            : "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (" + UPDATE_IF_VERSION + ")";
+        Query query = writeQuery(sql, financialData).setParameter("expectedVersion", expectedVersion);
+        Optional<FinancialData> updated = firstRow(query).map(row -> toDomain(row, financialData));
+        updated.ifPresent(data -> applyChange(previous, data));
+        return updated;
+    }
+
+    /**
+     * Locks and replaces the row of the country, or inserts it when there is none. When a
+     * concurrent insert of the same country commits first, the insert leaves its row untouched
+     * and the next attempt locks and replaces it. That attempt only misses the row again if yet
+     * another writer deleted it in between, so after {@value #UPSERT_ATTEMPTS} attempts the
+     * upsert gives up with an {@link OptimisticLockingFailureException} (HTTP 409).
+     */
+    @Override
+    public UpsertResult upsert(FinancialData financialData) {
+        for (int attempt = 1; attempt <= UPSERT_ATTEMPTS; attempt++) {
+            Optional<Delta> previous = lockAmounts(financialData.getCountry().getCode());
+            if (previous.isPresent()) {
+                Object[] row = executeWrite(financialData, true)
+                    .orElseThrow(() -> new IllegalStateException("Upsert returned no row for country: "
+                        + financialData.getCountry().getCode().getValue()));
+                FinancialData saved = toDomain(row, financialData);
+                applyChange(previous, saved);
+                return new UpsertResult(saved, false);
+            }
+            Optional<FinancialData> inserted = insertIfAbsent(financialData);
+            if (inserted.isPresent()) {
+                return new UpsertResult(inserted.get(), true);
+            }
+            // A concurrent insert of the same country committed first; its row can be locked now
+        }
+        throw new OptimisticLockingFailureException("Financial data of country "
+            + financialData.getCountry().getCode().getValue() + " kept changing during the upsert");
+    }
+
+    @Override
+    public Optional<FinancialData> insertIfAbsent(FinancialData financialData) {
+        Optional<FinancialData> inserted = executeWrite(financialData, false).map(row -> toDomain(row, financialData));
+        inserted.ifPresent(data -> applyChange(Optional.empty(), data));
+        return inserted;
+    }
+
+    // The rows and their currency totals are removed together, in one transaction
+    @Override
+    @Transactional
     public void deleteAll() {
         springDataRepository.deleteAll();
+        currencyTotals.deleteAll();
+    }
+
+    private Optional<Delta> lockAmounts(CountryCode countryCode) {
+        return firstRow(entityManager.createNativeQuery(LOCK_AMOUNTS).setParameter("countryCode", countryCode.getValue()))
+            .map(row -> new Delta(((Number) row[0]).longValue(), 1,
+                (BigDecimal) row[1], (BigDecimal) row[2], (BigDecimal) row[3]));
+    }
+
+    private void applyChange(Optional<Delta> previous, FinancialData written) {
+        List<Delta> deltas = new ArrayList<>(2);
+        previous.ifPresent(delta -> deltas.add(delta.negate()));
+        deltas.add(Delta.added(written));
+        currencyTotals.apply(deltas);
+    }
+
+    /**
+     * Runs the insert-or-update (or insert-if-absent) statement and returns the stored
+     * (id, created_at, updated_at), or empty when a conflicting row was left untouched.
+     * The statement is atomic on the unique country_code, so concurrent writers cannot race
+     * between an existence check and the insert.
+     */
+    private Optional<Object[]> executeWrite(FinancialData financialData, boolean replace) {
+        return firstRow(writeQuery(writeSql(replace), financialData));
+    }
+
+    private Query writeQuery(String sql, FinancialData financialData) {
+        Query query = entityManager.createNativeQuery(sql)
+            .setParameter("countryId", financialData.getCountry().getId().getValue())
+            .setParameter("countryCode", financialData.getCountry().getCode().getValue())
+            .setParameter("currencyId", financialData.getCurrency().getId().getValue())
+            .setParameter("currencyCode", financialData.getCurrency().getCode().getValue())
+            .setParameter("capitalSaved", financialData.getCapitalSaved())
+            .setParameter("capitalLoaned", financialData.getCapitalLoaned())
+            .setParameter("profitsGenerated", financialData.getProfitsGenerated())
+            // Columns hold microseconds; truncating keeps the returned timestamps comparable
+            .setParameter("now", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        // Tell Hibernate the statement writes financial_data, so cached queries on it are invalidated
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(FinancialDataEntity.class);
+        return query;
+    }
+
+    private static Optional<Object[]> firstRow(Query query) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().findFirst();
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+    }
+
+    private String writeSql(boolean replace) {
+        Dialect dialect = dialect();
+        String nextId = dialect.getSequenceSupport().getSelectSequenceNextValString(ID_SEQUENCE);
+
+        if (dialect instanceof PostgreSQLDialect) {
+            return "INSERT INTO financial_data (" + INSERT_COLUMNS + ") VALUES (" + nextId + ", " + INSERT_VALUES + ") "
+                + "ON CONFLICT (country_code) DO "
+                + (replace
+                    ? "UPDATE SET currency_id = EXCLUDED.currency_id, currency_code = EXCLUDED.currency_code, "
+                        + "capital_saved = EXCLUDED.capital_saved, capital_loaned = EXCLUDED.capital_loaned, "
+                        + "profits_generated = EXCLUDED.profits_generated, updated_at = EXCLUDED.updated_at, "
+                        + "version = financial_data.version + 1 "
+                    : "NOTHING ")
+                + "RETURNING " + RETURNED_COLUMNS;
+        }
+        if (dialect instanceof H2Dialect) {
+            // H2 has no ON CONFLICT; MERGE inside a FINAL TABLE gives the same single statement with a result
+            return "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (MERGE INTO financial_data t "
+                + "USING (SELECT CAST(:countryCode AS VARCHAR(3)) AS country_code) s ON t.country_code = s.country_code "
+                + (replace
+                    ? "WHEN MATCHED THEN UPDATE SET currency_id = :currencyId, currency_code = :currencyCode, "
+                        + "capital_saved = :capitalSaved, capital_loaned = :capitalLoaned, "
+                        + "profits_generated = :profitsGenerated, updated_at = :now, version = t.version + 1 "
+                    : "")
+                + "WHEN NOT MATCHED THEN INSERT (" + INSERT_COLUMNS + ") VALUES (" + nextId + ", " + INSERT_VALUES + "))";
+        }
+        throw new IllegalStateException("Financial data upsert is not supported for dialect: " + dialect.getClass().getSimpleName());
+    }
+
+    private void appendRange(StringBuilder jpql, Map<String, Object> parameters,
+                             String field, BigDecimal min, BigDecimal max) {
+        if (min != null) {
+            jpql.append(" AND fd.").append(field).append(" >= :min_").append(field);
+            parameters.put("min_" + field, min);
+        }
+        if (max != null) {
+            jpql.append(" AND fd.").append(field).append(" <= :max_").append(field);
+            parameters.put("max_" + field, max);
+        }
+    }
+
+    /**
+     * SQL for amount / exchange_rate_to_base rounded HALF_UP to 2 decimals, the same result as
+     * {@code amount.divide(rate, 2, RoundingMode.HALF_UP)}. Division in the database is rounded
+     * to an engine-specific scale, so rounding its result could round twice; instead the cents are
+     * computed exactly as floor((amount * 200 + rate) / (rate * 2)), valid because amounts are
+     * non-negative and rates positive, with floor(n / d) written as (n - MOD(n, d)) / d.
+     * Callers pass zero amounts as NULL, so they can be told apart from amounts rounding to 0.00.
+     */
+    private static String toUsd(String amount) {
+        String numerator = "(" + amount + " * 200 + cu.exchange_rate_to_base)";
+        String denominator = "(cu.exchange_rate_to_base * 2)";
+        return "CAST((" + numerator + " - MOD(" + numerator + ", " + denominator + ")) / "
+            + denominator + " / 100 AS NUMERIC(21, 2))";
+    }
+
+    private static BigDecimal toAmount(Object value) {
+        // CurrencyConverterService returns an unscaled zero for zero amounts, which the query leaves
+        // NULL (and SUM skips); keep the output identical
+        return value == null ? BigDecimal.ZERO : (BigDecimal) value;
     }
 
     private FinancialDataEntity toEntity(FinancialData domain) {
@@ -83,19 +399,36 @@ public class JpaFinancialDataRepository implements FinancialDataRepository {
             .profitsGenerated(domain.getProfitsGenerated())
             .createdAt(domain.getCreatedAt())
             .updatedAt(domain.getUpdatedAt())
+            .version(domain.getVersion())
             .build();
     }
 
-    private FinancialData toDomain(@NonNull FinancialDataEntity entity) {
-        // Load Country and Currency entities from repositories using codes
-        CountryCode countryCode = new CountryCode(entity.getCountryCode());
-        Country country = countryRepository.findByCode(countryCode)
-            .orElseThrow(() -> new IllegalStateException("Country not found with code: " + entity.getCountryCode()));
-        
-        CurrencyCode currencyCode = new CurrencyCode(entity.getCurrencyCode());
-        Currency currency = currencyRepository.findByCode(currencyCode)
-            .orElseThrow(() -> new IllegalStateException("Currency not found with code: " + entity.getCurrencyCode()));
-        
+    private static LocalDateTime toDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private FinancialData toDomain(Object[] row, FinancialData written) {
+        return new FinancialData(
+            ((Number) row[0]).longValue(),
+            written.getCountry(),
+            written.getCurrency(),
+            written.getCapitalSaved(),
+            written.getCapitalLoaned(),
+            written.getProfitsGenerated(),
+            new FinancialData.Timestamps(toDateTime(row[1]), toDateTime(row[2])),
+            ((Number) row[3]).longValue()
+        );
+    }
+
+    private FinancialData toDomain(@NonNull FinancialDataRow row) {
+        return toDomain(
+            row.financialData(),
+            JpaCountryRepository.toDomain(row.country()),
+            JpaCurrencyRepository.toDomain(row.currency())
+        );
+    }
+
+    private FinancialData toDomain(@NonNull FinancialDataEntity entity, Country country, Currency currency) {
         return new FinancialData(
             entity.getId(),
             country,
@@ -103,7 +436,8 @@ public class JpaFinancialDataRepository implements FinancialDataRepository {
             entity.getCapitalSaved(),
             entity.getCapitalLoaned(),
             entity.getProfitsGenerated(),
-            new FinancialData.Timestamps(entity.getCreatedAt(), entity.getUpdatedAt())
+            new FinancialData.Timestamps(entity.getCreatedAt(), entity.getUpdatedAt()),
+            entity.getVersion()
         );
     }
 }
@@ -2,6 +2,9 @@ package com.savinco.financial.infrastructure.persistence.repository;
 
 import com.savinco.financial.infrastructure.persistence.entity.CurrencyEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +14,9 @@ public interface SpringDataCurrencyRepository extends JpaRepository<CurrencyEnti
     Optional<CurrencyEntity> findByCode(String code);
     boolean existsByCode(String code);
     Optional<CurrencyEntity> findByIsBaseTrue();
-}
 
+    // deleteById would load the entity first and remove it in a second statement
+    @Modifying
+    @Query("DELETE FROM CurrencyEntity cu WHERE cu.id = :id")
+    int deleteRowById(@Param("id") Long id);
+}
@@ -0,0 +1,21 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyTotalsEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataCurrencyTotalsRepository extends JpaRepository<CurrencyTotalsEntity, Long> {
+
+    @Query("SELECT new com.savinco.financial.infrastructure.persistence.repository.CurrencyTotalsRow(t, cu) "
+        + "FROM CurrencyTotalsEntity t JOIN CurrencyEntity cu ON cu.id = t.currencyId "
+        + "WHERE t.countryCount > 0 ORDER BY cu.code")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CurrencyTotalsRow> findAllRows();
+}
@@ -0,0 +1,24 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import com.savinco.financial.infrastructure.persistence.entity.ExchangeRateHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpringDataExchangeRateHistoryRepository extends JpaRepository<ExchangeRateHistoryEntity, Long> {
+
+    List<ExchangeRateHistoryEntity> findAllByOrderByCurrencyCodeAscValidFromAsc();
+
+    List<ExchangeRateHistoryEntity> findByCurrencyCodeOrderByValidFromAsc(String currencyCode);
+
+    @Modifying
+    @Query("UPDATE ExchangeRateHistoryEntity h SET h.validTo = :validTo "
+        + "WHERE h.currencyCode = :currencyCode AND h.validTo IS NULL")
+    int closeOpenPeriod(@Param("currencyCode") String currencyCode, @Param("validTo") LocalDateTime validTo);
+}
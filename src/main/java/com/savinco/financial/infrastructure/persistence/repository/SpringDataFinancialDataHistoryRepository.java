@@ -0,0 +1,37 @@
+package com.savinco.financial.infrastructure.persistence.repository;
+
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataHistoryEntity;
+import com.savinco.financial.infrastructure.persistence.entity.FinancialDataHistoryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+// Every query bounds period_start so Postgres only visits the partitions in range
+@Repository
+public interface SpringDataFinancialDataHistoryRepository extends JpaRepository<FinancialDataHistoryEntity, FinancialDataHistoryId> {
+
+    List<FinancialDataHistoryEntity> findByPeriodStartBetweenOrderByPeriodStartAscCountryCodeAsc(
+        LocalDate from, LocalDate to);
+
+    List<FinancialDataHistoryEntity> findByCountryCodeAndPeriodStartBetweenOrderByPeriodStartAsc(
+        String countryCode, LocalDate from, LocalDate to);
+
+    // Driven by the small countries table: one MAX(period_start) index probe per country
+    @Query("SELECT h FROM CountryEntity c "
+        + "JOIN FinancialDataHistoryEntity h ON h.countryCode = c.code "
+        + "WHERE h.periodStart = (SELECT MAX(h2.periodStart) FROM FinancialDataHistoryEntity h2 "
+        + "WHERE h2.countryCode = c.code AND h2.periodStart <= :asOf) "
+        + "ORDER BY c.code")
+    List<FinancialDataHistoryEntity> findLatestPerCountry(@Param("asOf") LocalDate asOf);
+
+    @Modifying
+    @Query("DELETE FROM FinancialDataHistoryEntity h WHERE h.periodStart = :periodStart AND h.countryCode IN :countryCodes")
+    int deleteByPeriodStartAndCountryCodes(@Param("periodStart") LocalDate periodStart,
+                                           @Param("countryCodes") Collection<String> countryCodes);
+}
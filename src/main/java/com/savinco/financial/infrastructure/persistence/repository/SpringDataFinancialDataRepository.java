@@ -1,15 +1,48 @@
 package com.savinco.financial.infrastructure.persistence.repository;
 
 import com.savinco.financial.infrastructure.persistence.entity.FinancialDataEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SpringDataFinancialDataRepository extends JpaRepository<FinancialDataEntity, Long> {
+
+    // Loads financial data together with its country and currency in one statement
+    String SELECT_ROWS = "SELECT new com.savinco.financial.infrastructure.persistence.repository.FinancialDataRow(fd, c, cu) "
+        + "FROM FinancialDataEntity fd "
+        + "JOIN CountryEntity c ON c.id = fd.countryId "
+        + "JOIN CurrencyEntity cu ON cu.id = fd.currencyId";
+
     Optional<FinancialDataEntity> findByCountryCode(String countryCode);
     boolean existsByCountryCode(String countryCode);
     boolean existsByCountryId(Long countryId);
-    void deleteByCountryCode(String countryCode);
+
+    // A derived delete would load the entity first and remove it in a second statement
+    @Modifying
+    @Query("DELETE FROM FinancialDataEntity fd WHERE fd.countryCode = :countryCode")
+    int deleteByCountryCode(@Param("countryCode") String countryCode);
+
+    @Query("SELECT fd.countryCode FROM FinancialDataEntity fd")
+    List<String> findAllCountryCodes();
+
+    @Query("SELECT fd.version FROM FinancialDataEntity fd WHERE fd.countryCode = :countryCode")
+    Optional<Long> findVersionByCountryCode(@Param("countryCode") String countryCode);
+
+    // Rows are only mapped to domain objects, so Hibernate keeps no snapshots for dirty checking
+    @Query(SELECT_ROWS + " ORDER BY fd.countryCode")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<FinancialDataRow> findAllRows();
+
+    @Query(SELECT_ROWS + " WHERE fd.countryCode = :countryCode")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<FinancialDataRow> findRowByCountryCode(@Param("countryCode") String countryCode);
 }
@@ -0,0 +1,9 @@
+package com.savinco.financial.infrastructure.persistence.routing;
+
+/**
+ * Target pool of a connection handed out by {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,38 @@
+package com.savinco.financial.infrastructure.persistence.routing;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs reads that must not see replication lag on the primary, even when called from a
+ * transaction routed to the replica. Used to fill caches that outlive the request: a value
+ * loaded from a lagging replica right after an invalidation would stay stale until the next
+ * write.
+ */
+@Component
+public class PrimaryReads {
+
+    private final boolean replicaEnabled;
+    private final TransactionTemplate primaryTransaction;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${financial.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.replicaEnabled = replicaEnabled;
+        // Unnamed, so ReadWriteRoutingDataSource does not treat it as a service read
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryTransaction.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!replicaEnabled || !ReadWriteRoutingDataSource.isReplicaTransaction()) {
+            return reader.get();
+        }
+        return primaryTransaction.execute(status -> reader.get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.savinco.financial.infrastructure.persistence.routing;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions of the application services to the replica pool and everything
+ * else to the primary.
+ *
+ * Only transactions started by a method of {@code application.service} qualify: repository
+ * calls made outside such a transaction (event listeners re-reading committed state, startup
+ * loads) run in Spring Data's own read-only transactions and must see the primary. A request
+ * pinned by {@link ReadYourWritesContext} also stays on the primary.
+ *
+ * The route is chosen when a transaction first needs a physical connection, so this data
+ * source must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only
+ * flag and name are only known after the transaction has begun.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String APPLICATION_SERVICES = "com.savinco.financial.application.service.";
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryConnections = Counter.builder("datasource.routing.connections")
+            .tag("route", "primary")
+            .register(meterRegistry);
+        this.replicaConnections = Counter.builder("datasource.routing.connections")
+            .tag("route", "replica")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether the current transaction is (or would be) served by the replica.
+     */
+    public static boolean isReplicaTransaction() {
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && name != null
+            && name.startsWith(APPLICATION_SERVICES)
+            && !ReadYourWritesContext.isPinned();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (isReplicaTransaction()) {
+            replicaConnections.increment();
+            return DataSourceRoute.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext.recordWrite();
+        }
+        primaryConnections.increment();
+        return DataSourceRoute.PRIMARY;
+    }
+}
@@ -0,0 +1,67 @@
+package com.savinco.financial.infrastructure.persistence.routing;
+
+/**
+ * Per-thread read-your-writes state of the request being served.
+ *
+ * A request starts pinned to the primary when its client wrote recently; it becomes pinned as
+ * soon as it opens a read-write transaction itself, or when its response is kept beyond the
+ * request. While pinned, read-only transactions are not routed to the replica, so a client
+ * never reads data older than its own writes.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Starts tracking the current request. {@code onFirstWrite} runs once, when the request
+     * opens its first read-write transaction, so the caller can make the client sticky.
+     */
+    public static void begin(boolean pinned, Runnable onFirstWrite) {
+        CURRENT.set(new State(pinned, onFirstWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinned() {
+        State state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    /**
+     * Pins the rest of the current request to the primary. For responses that are cached or
+     * validated under the current data version: rendered from a lagging replica right after a
+     * write, they would carry the new version with the old data until the next write.
+     */
+    public static void pin() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.pinned = true;
+        }
+    }
+
+    static void recordWrite() {
+        State state = CURRENT.get();
+        if (state == null || state.wrote) {
+            return;
+        }
+        state.wrote = true;
+        state.pinned = true;
+        state.onFirstWrite.run();
+    }
+
+    private static final class State {
+        private boolean pinned;
+        private boolean wrote;
+        private final Runnable onFirstWrite;
+
+        private State(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
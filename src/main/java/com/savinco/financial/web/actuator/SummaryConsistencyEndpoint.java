@@ -0,0 +1,33 @@
+package com.savinco.financial.web.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.savinco.financial.application.service.IncrementalSummaryEngine;
+import com.savinco.financial.application.service.IncrementalSummaryEngine.ConsistencyReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code POST /actuator/summary} compares the in-memory summary with a full recomputation
+ * and repairs it when they differ. Only present with the incremental summary engine, and
+ * only reachable when {@code summary} is added to {@code ACTUATOR_ENDPOINTS}.
+ */
+@Component
+@Endpoint(id = "summary")
+@ConditionalOnProperty(name = "financial.summary.engine", havingValue = "incremental")
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryConsistencyEndpoint {
+
+    private final IncrementalSummaryEngine summaryEngine;
+
+    @WriteOperation
+    public ConsistencyReport checkConsistency() {
+        log.info("Summary consistency check requested");
+        return summaryEngine.checkConsistency();
+    }
+}
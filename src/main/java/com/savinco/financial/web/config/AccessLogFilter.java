@@ -0,0 +1,190 @@
+package com.savinco.financial.web.config;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.savinco.financial.infrastructure.persistence.monitoring.StatementCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Canonical access log: one JSON line per API request on the {@code com.savinco.financial.access}
+ * logger, which {@code logback-spring.xml} sends through an asynchronous appender.
+ *
+ * The line carries the time, request ID, method, path, route pattern, status, duration, the SQL
+ * statements issued on the request thread and the exception class when one escaped. Failed
+ * (status 400 and above) and slow requests are always written; other requests are sampled at
+ * {@code financial.access-log.success-sample-rate}, which the line records so totals can be
+ * scaled back up. Runs ahead of every other filter, so responses answered from the caches or
+ * with 304 are logged too and share the request ID it assigns. Streamed responses are logged
+ * when they complete. Meters: {@code http.server.requests.access.log} with
+ * {@code result=written|sampled_out}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("com.savinco.financial.access");
+    private static final String REQUEST_ID_MDC = "requestId";
+
+    private final AccessLogProperties properties;
+    private final Counter written;
+    private final Counter sampledOut;
+
+    public AccessLogFilter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.written = Counter.builder("http.server.requests.access.log").tag("result", "written").register(meterRegistry);
+        this.sampledOut = Counter.builder("http.server.requests.access.log").tag("result", "sampled_out").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        String requestId = RequestIds.resolve(request, response);
+        MDC.put(REQUEST_ID_MDC, requestId);
+        if (!properties.isEnabled()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                MDC.remove(REQUEST_ID_MDC);
+            }
+            return;
+        }
+
+        int mark = StatementCounter.begin();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            int statements = StatementCounter.end(mark);
+            MDC.remove(REQUEST_ID_MDC);
+            if (failure == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, requestId, start, statements));
+            } else {
+                log(request, response, requestId, start, statements, failure);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, String requestId,
+                     long start, int statements, Throwable failure) {
+        long elapsed = System.nanoTime() - start;
+        // An escaping exception is answered with 500 by the container, whatever the status so far
+        int status = failure != null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+        boolean sampleable = status < 400 && elapsed < properties.getSlowThreshold().toNanos();
+        double sampleRate = sampleable ? properties.getSuccessSampleRate() : 1.0;
+        if (sampleable && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+
+        StringBuilder line = new StringBuilder(256);
+        line.append('{');
+        field(line, "timestamp", Instant.now().toString()).append(',');
+        field(line, "requestId", requestId).append(',');
+        field(line, "method", request.getMethod()).append(',');
+        field(line, "path", request.getRequestURI()).append(',');
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route != null) {
+            field(line, "route", route.toString()).append(',');
+        }
+        line.append("\"status\":").append(status).append(',');
+        line.append("\"durationMs\":").append(String.format(Locale.ROOT, "%.3f", elapsed / 1_000_000.0)).append(',');
+        line.append("\"statements\":").append(statements).append(',');
+        if (failure != null) {
+            field(line, "error", failure.getClass().getSimpleName()).append(',');
+        }
+        line.append("\"sampleRate\":").append(sampleRate);
+        line.append('}');
+        accessLog.info(line.toString());
+        written.increment();
+    }
+
+    private static StringBuilder field(StringBuilder line, String name, String value) {
+        line.append('"').append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        return line.append('"');
+    }
+
+    /**
+     * Logs a streamed response once it is complete; statements issued on the streaming thread
+     * are not counted.
+     */
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final String requestId;
+        private final long start;
+        private final int statements;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, String requestId,
+                           long start, int statements) {
+            this.request = request;
+            this.response = response;
+            this.requestId = requestId;
+            this.start = start;
+            this.statements = statements;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response, requestId, start, statements, event.getThrowable());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.savinco.financial.web.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Sampling of the one-line-per-request access log written by {@link AccessLogFilter}.
+ */
+@Component
+@ConfigurationProperties(prefix = "financial.access-log")
+@Data
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    // Fraction of successful requests that are written; failed and slow requests always are
+    private double successSampleRate = 1.0;
+
+    // Successful requests at least this slow are written regardless of the sample rate
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,141 @@
+package com.savinco.financial.web.config;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conditional GET for the polled read endpoints.
+ *
+ * The validators come from the {@link DataVersion} rather than from the rendered body: the
+ * strong ETag is the version (prefixed with the startup time, so it never repeats after a
+ * restart) and Last-Modified is the time of the last write. They are read before the request
+ * is handled, so a write racing with it can only make the validators older than the body, which
+ * costs the client one more full response. Requests that get validators are read from the
+ * primary, since a body read from a lagging replica would be revalidated with 304 until the
+ * next write. {@code If-None-Match} takes precedence over {@code If-Modified-Since}; either is
+ * answered with 304 before any controller or repository is reached.
+ *
+ * Last-Modified has whole-second precision, so it is only sent once the second of the last
+ * write is over; otherwise a second write in the same second would carry the same date.
+ * Meters: {@code http.server.requests.conditional} with {@code path} and
+ * {@code result=not_modified|modified|unconditional}.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.conditional-get.enabled", havingValue = "true", matchIfMissing = true)
+// Before the rendered response cache, so cache hits are validated too
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private final Set<String> paths;
+    private final DataVersion dataVersion;
+    private final MeterRegistry meterRegistry;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public ConditionalGetFilter(@Value("${financial.conditional-get.paths}") List<String> paths,
+                                DataVersion dataVersion,
+                                MeterRegistry meterRegistry) {
+        this.paths = Set.copyOf(paths);
+        this.dataVersion = dataVersion;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The ETag of a gzip encoded body: strong ETags must differ between encodings.
+     */
+    static String gzipVariant(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String etag = "\"" + epoch + "-" + dataVersion.current() + "\"";
+        Instant lastModified = dataVersion.lastModified().truncatedTo(ChronoUnit.SECONDS);
+        boolean lastModifiedFinal = lastModified.isBefore(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        Boolean notModified = null;
+        if (ifNoneMatch != null) {
+            notModified = matches(ifNoneMatch, etag);
+        } else if (request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            notModified = lastModifiedFinal && notModifiedSince(request, lastModified);
+        }
+        count(request.getRequestURI(), notModified == null ? "unconditional" : notModified ? "not_modified" : "modified");
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModifiedFinal) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        }
+        if (Boolean.TRUE.equals(notModified)) {
+            RequestIds.resolve(request, response);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        ReadYourWritesContext.pin();
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // Weak comparison, as If-None-Match requires
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipVariant(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean notModifiedSince(HttpServletRequest request, Instant lastModified) {
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return !lastModified.isAfter(Instant.ofEpochMilli(since));
+        } catch (IllegalArgumentException e) {
+            // An unparseable date is ignored
+            return false;
+        }
+    }
+
+    private void count(String path, String result) {
+        Counter.builder("http.server.requests.conditional")
+            .description("Conditional GET outcomes of the polled read endpoints")
+            .tag("path", path)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+}
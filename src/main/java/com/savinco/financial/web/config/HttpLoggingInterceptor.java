@@ -1,7 +1,5 @@
 package com.savinco.financial.web.config;
 
-import java.util.UUID;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -13,11 +11,16 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Puts the request ID, method and path in the MDC of the lines logged while a handler runs,
+ * and logs the exceptions handlers let escape. The request itself is logged once, by
+ * {@link AccessLogFilter}.
+ */
 @Component
 public class HttpLoggingInterceptor implements HandlerInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(HttpLoggingInterceptor.class);
-    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
     private static final String REQUEST_ID_MDC = "requestId";
     private static final String METHOD_MDC = "method";
     private static final String PATH_MDC = "path";
@@ -29,35 +32,14 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
             @NonNull HttpServletResponse response,
             @NonNull Object handler) throws Exception {
         
-        // Store start time for duration calculation
-        request.setAttribute("startTime", System.currentTimeMillis());
-        
-        // Generate or use existing request ID
-        String requestId = request.getHeader(REQUEST_ID_HEADER);
-        if (requestId == null || requestId.isBlank()) {
-            requestId = UUID.randomUUID().toString();
-        }
-        
-        // Set request ID in response header
-        response.setHeader(REQUEST_ID_HEADER, requestId);
+        // Usually assigned by AccessLogFilter already
+        String requestId = RequestIds.resolve(request, response);
         
         // Set MDC for structured logging
         MDC.put(REQUEST_ID_MDC, requestId);
         MDC.put(METHOD_MDC, request.getMethod());
         MDC.put(PATH_MDC, request.getRequestURI());
         
-        // Log incoming request
-        String queryString = request.getQueryString();
-        String fullPath = queryString != null 
-            ? request.getRequestURI() + "?" + queryString 
-            : request.getRequestURI();
-        
-        log.info("Incoming HTTP request: {} {} | Client: {} | User-Agent: {}", 
-            request.getMethod(), 
-            fullPath,
-            request.getRemoteAddr(),
-            request.getHeader("User-Agent"));
-        
         return true;
     }
 
@@ -68,35 +50,19 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
             @NonNull Object handler,
             @Nullable Exception ex) throws Exception {
         
-        int status = response.getStatus();
-        MDC.put(STATUS_MDC, String.valueOf(status));
-        
-        long startTime = (Long) request.getAttribute("startTime");
-        long duration = startTime > 0 ? System.currentTimeMillis() - startTime : 0;
-        
         if (ex != null) {
-            log.error("HTTP request failed: {} {} | Status: {} | Duration: {}ms | Error: {}", 
+            MDC.put(STATUS_MDC, String.valueOf(response.getStatus()));
+            log.error("HTTP request failed: {} {} | Status: {} | Error: {}", 
                 request.getMethod(),
                 request.getRequestURI(),
-                status,
-                duration,
+                response.getStatus(),
                 ex.getMessage(),
                 ex);
-        } else if (status >= 400) {
-            log.warn("HTTP request completed with error: {} {} | Status: {} | Duration: {}ms", 
-                request.getMethod(),
-                request.getRequestURI(),
-                status,
-                duration);
-        } else {
-            log.info("HTTP request completed: {} {} | Status: {} | Duration: {}ms", 
-                request.getMethod(),
-                request.getRequestURI(),
-                status,
-                duration);
         }
         
-        // Clear MDC
-        MDC.clear();
+        // The request ID stays until AccessLogFilter has logged the request
+        MDC.remove(METHOD_MDC);
+        MDC.remove(PATH_MDC);
+        MDC.remove(STATUS_MDC);
     }
 }
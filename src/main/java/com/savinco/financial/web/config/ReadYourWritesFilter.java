@@ -0,0 +1,80 @@
+package com.savinco.financial.web.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.savinco.financial.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes stickiness across requests of the same client.
+ *
+ * When a request writes, the response carries a cookie with the time until which the client
+ * reads from the primary, covering the replication lag. Requests that present an unexpired
+ * cookie, and the rest of the writing request itself, are pinned to the primary.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.datasource.replica.enabled", havingValue = "true")
+// Ahead of the response cache and conditional GET filters, which pin the requests they render
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "primary-reads-until";
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesFilter(@Value("${financial.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // The cookie is added on the first write, before the handler produces the body
+        ReadYourWritesContext.begin(isSticky(request), () -> response.addHeader(HttpHeaders.SET_COOKIE,
+            ResponseCookie.from(COOKIE_NAME, Long.toString(System.currentTimeMillis() + stickyWindow.toMillis()))
+                .path("/")
+                .httpOnly(true)
+                .maxAge(stickyWindow)
+                .build()
+                .toString()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.end();
+        }
+    }
+
+    private static boolean isSticky(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
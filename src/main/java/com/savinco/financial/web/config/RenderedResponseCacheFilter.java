@@ -0,0 +1,180 @@
+package com.savinco.financial.web.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the hottest read endpoints from their rendered JSON bytes.
+ *
+ * The first request after a change renders the response as usual; its body is kept, along
+ * with a gzip variant, tagged with the {@link DataVersion} read before rendering. Until the
+ * next write bumps the version, identical requests (GET, same path, no query string) get those
+ * bytes written straight to the response, without reaching the controller or Jackson. A
+ * response about to be cached is read from the primary: rendered from a lagging replica right
+ * after a write, it would be served as current until the next one.
+ * Meters: {@code cache.gets} with {@code cache=responses} and {@code result=hit|miss}.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RenderedResponseCacheFilter extends OncePerRequestFilter {
+
+    // Headers that belong to one exchange rather than to the rendered resource
+    private static final Set<String> PER_REQUEST_HEADERS = Set.of(
+        HttpLoggingInterceptor.REQUEST_ID_HEADER.toLowerCase(),
+        HttpHeaders.SET_COOKIE.toLowerCase(),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+        HttpHeaders.CONTENT_TYPE.toLowerCase(),
+        HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+        HttpHeaders.DATE.toLowerCase(),
+        HttpHeaders.VARY.toLowerCase(),
+        HttpHeaders.CONTENT_ENCODING.toLowerCase(),
+        // Set for every request by ConditionalGetFilter
+        HttpHeaders.ETAG.toLowerCase(),
+        HttpHeaders.LAST_MODIFIED.toLowerCase()
+    );
+
+    private final Set<String> paths;
+    private final DataVersion dataVersion;
+    private final Map<String, RenderedResponse> responses = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public RenderedResponseCacheFilter(@Value("${financial.response-cache.paths}") List<String> paths,
+                                       DataVersion dataVersion,
+                                       MeterRegistry meterRegistry) {
+        this.paths = Set.copyOf(paths);
+        this.dataVersion = dataVersion;
+        this.hits = Counter.builder("cache.gets").tag("cache", "responses").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", "responses").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+            || request.getQueryString() != null
+            || !paths.contains(request.getRequestURI())
+            || !acceptsJson(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI();
+        long version = dataVersion.current();
+        RenderedResponse rendered = responses.get(path);
+        if (rendered != null && rendered.version() == version) {
+            hits.increment();
+            write(rendered, request, response);
+            return;
+        }
+
+        misses.increment();
+        ReadYourWritesContext.pin();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getContentType() != null) {
+                byte[] body = wrapper.getContentAsByteArray();
+                responses.put(path, new RenderedResponse(version, wrapper.getContentType(), headersOf(wrapper), body, gzip(body)));
+                log.debug("Rendered response cached: path={}, version={}, bytes={}", path, version, body.length);
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void write(RenderedResponse rendered, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RequestIds.resolve(request, response);
+        rendered.headers().forEach(header -> response.addHeader(header[0], header[1]));
+        response.setContentType(rendered.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = rendered.body();
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null) {
+                response.setHeader(HttpHeaders.ETAG, ConditionalGetFilter.gzipVariant(etag));
+            }
+            body = rendered.gzippedBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static List<String[]> headersOf(HttpServletResponse response) {
+        List<String[]> headers = new ArrayList<>();
+        for (String name : response.getHeaderNames()) {
+            if (!PER_REQUEST_HEADERS.contains(name.toLowerCase())) {
+                response.getHeaders(name).forEach(value -> headers.add(new String[] {name, value}));
+            }
+        }
+        return headers;
+    }
+
+    private static boolean acceptsJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(type -> type.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            // Let the regular pipeline reject it
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Body of a 200 response as rendered at {@code version}, with its resource headers.
+     */
+    private record RenderedResponse(long version, String contentType, List<String[]> headers,
+                                    byte[] body, byte[] gzippedBody) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.savinco.financial.web.config;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Request IDs in the ULID text form: 26 Crockford base32 characters that sort by creation time.
+ *
+ * The 128 bits are the 48-bit millisecond timestamp, 16 bits chosen at random once per process
+ * and a 64-bit counter with a random start. Generating one is an atomic increment, so requests
+ * never contend on {@link SecureRandom}, which is only read at startup; the random bits keep
+ * IDs of different instances apart.
+ */
+public final class RequestIds {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 26;
+
+    private static final long NODE;
+    private static final AtomicLong COUNTER;
+
+    static {
+        SecureRandom random = new SecureRandom();
+        NODE = random.nextInt() & 0xFFFFL;
+        COUNTER = new AtomicLong(random.nextLong());
+    }
+
+    private RequestIds() {
+    }
+
+    public static String next() {
+        long high = System.currentTimeMillis() << 16 | NODE;
+        long low = COUNTER.getAndIncrement();
+        char[] id = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            id[i] = ALPHABET[(int) (low & 31)];
+            low = low >>> 5 | high << 59;
+            high >>>= 5;
+        }
+        return new String(id);
+    }
+
+    /**
+     * The ID of the request: the one already set on the response, else the caller's
+     * {@code X-Request-Id}, else a new one. It is set on the response when missing.
+     */
+    public static String resolve(HttpServletRequest request, HttpServletResponse response) {
+        String requestId = response.getHeader(HttpLoggingInterceptor.REQUEST_ID_HEADER);
+        if (requestId != null) {
+            return requestId;
+        }
+        requestId = request.getHeader(HttpLoggingInterceptor.REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank()) {
+            requestId = next();
+        }
+        response.setHeader(HttpLoggingInterceptor.REQUEST_ID_HEADER, requestId);
+        return requestId;
+    }
+}
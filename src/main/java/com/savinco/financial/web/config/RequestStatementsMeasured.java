@@ -0,0 +1,14 @@
+package com.savinco.financial.web.config;
+
+/**
+ * Published after a sampled request completes with the number of SQL statements it issued.
+ *
+ * @param endpoint  method and path pattern of the handler, e.g. {@code GET /api/v1/currencies/{code}}
+ * @param requestId the {@code X-Request-Id} of the response
+ */
+public record RequestStatementsMeasured(String endpoint, String requestId, int statements, int budget) {
+
+    public boolean exceeded() {
+        return statements > budget;
+    }
+}
@@ -0,0 +1,84 @@
+package com.savinco.financial.web.config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.savinco.financial.infrastructure.persistence.monitoring.StatementCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runtime N+1 detector.
+ *
+ * A sample of requests counts the SQL statements issued on the request thread, including the
+ * listeners that run after commit. The count is recorded per endpoint, and requests over the
+ * budget of their endpoint are logged with their {@code X-Request-Id} and counted, so a new
+ * N+1 shows up in the metrics before it shows up in latency. Statements of streamed responses
+ * written on another thread are not counted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int statements;
+        int mark = StatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements = StatementCounter.end(mark);
+        }
+
+        // Requests no handler matched have no endpoint to hold to a budget
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        RequestStatementsMeasured measured = new RequestStatementsMeasured(endpoint,
+            response.getHeader(HttpLoggingInterceptor.REQUEST_ID_HEADER), statements, properties.budgetOf(endpoint));
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("SQL statements issued by sampled requests")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(statements);
+        if (measured.exceeded()) {
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                .description("Sampled requests that issued more SQL statements than their endpoint budget")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+            log.warn("SQL statement budget exceeded: endpoint={}, statements={}, budget={}, requestId={}",
+                endpoint, statements, measured.budget(), measured.requestId());
+        }
+        eventPublisher.publishEvent(measured);
+    }
+}
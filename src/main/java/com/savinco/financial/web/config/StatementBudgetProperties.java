@@ -0,0 +1,31 @@
+package com.savinco.financial.web.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * SQL statement budgets of the endpoints, keyed by method and path pattern,
+ * e.g. {@code GET /api/v1/financial-data/summary}.
+ */
+@Component
+@ConfigurationProperties(prefix = "financial.statement-budget")
+@Data
+public class StatementBudgetProperties {
+
+    // Fraction of requests whose statements are counted; 0 turns the check off
+    private double sampleRate = 0.01;
+
+    // Budget of endpoints without an entry of their own
+    private int defaultBudget = 10;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetOf(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,71 @@
+package com.savinco.financial.web.controller;
+
+import java.math.BigDecimal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.savinco.financial.application.dto.ConversionBatchRequest;
+import com.savinco.financial.application.dto.ConversionBatchResponse;
+import com.savinco.financial.application.dto.ConversionResponse;
+import com.savinco.financial.application.service.CurrencyConversionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/conversions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Conversion", description = "API for converting amounts between any two currencies")
+public class ConversionController {
+
+    private final CurrencyConversionService conversionService;
+
+    @GetMapping
+    @Operation(summary = "Convert an amount",
+               description = "Convert an amount from one currency to another at the current exchange rates. " +
+                           "The cross rate is rate(to) / rate(from) with 34 significant digits; the result is rounded half up to 2 decimal places.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Amount converted successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing parameter or invalid currency code format"),
+        @ApiResponse(responseCode = "404", description = "Currency not found")
+    })
+    public ResponseEntity<ConversionResponse> convert(
+            @Parameter(description = "Source currency code", example = "EUR", required = true)
+            @RequestParam String from,
+            @Parameter(description = "Target currency code", example = "PEN", required = true)
+            @RequestParam String to,
+            @Parameter(description = "Amount in the source currency", example = "90.00", required = true)
+            @RequestParam BigDecimal amount) {
+        log.debug("Converting amount: from={}, to={}, amount={}", from, to, amount);
+        return ResponseEntity.ok(conversionService.convert(from, to, amount));
+    }
+
+    @PostMapping
+    @Operation(summary = "Convert amounts in batch",
+               description = "Convert up to " + ConversionBatchRequest.MAX_CONVERSIONS + " amounts, each between its own pair of currencies, " +
+                           "all at the same exchange rates. Results are returned in the order of the request.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Amounts converted successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data"),
+        @ApiResponse(responseCode = "404", description = "A currency was not found")
+    })
+    public ResponseEntity<ConversionBatchResponse> convertAll(@Valid @RequestBody ConversionBatchRequest request) {
+        log.debug("Converting batch: conversions={}", request.getConversions().size());
+        ConversionBatchResponse response = conversionService.convertAll(request.getConversions());
+        log.debug("Batch converted: conversions={}, ratesVersion={}", response.getResults().size(), response.getRatesVersion());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -48,7 +48,7 @@ public class CountryController {
         @ApiResponse(responseCode = "409", description = "Country already exists with this code")
     })
     public ResponseEntity<CountryResponse> create(@Valid @RequestBody CountryRequest request) {
-        log.info("Creating country: code={}, name={}, currencyCode={}", 
+        log.debug("Creating country: code={}, name={}, currencyCode={}", 
             request.getCode(), request.getName(), request.getCurrencyCode());
         
         Country country = countryService.create(
@@ -58,7 +58,7 @@ public class CountryController {
         );
         CountryResponse response = toResponse(country);
         
-        log.info("Country created successfully: id={}, code={}", 
+        log.debug("Country created successfully: id={}, code={}", 
             response.getId(), response.getCode());
         
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -76,7 +76,7 @@ public class CountryController {
             .map(this::toResponse)
             .toList();
         
-        log.info("Found {} countries", response.size());
+        log.debug("Found {} countries", response.size());
         return ResponseEntity.ok(response);
     }
 
@@ -94,7 +94,7 @@ public class CountryController {
         Country country = countryService.findByCode(code);
         CountryResponse response = toResponse(country);
         
-        log.info("Country found: code={}, id={}", code, response.getId());
+        log.debug("Country found: code={}, id={}", code, response.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -109,10 +109,10 @@ public class CountryController {
     public ResponseEntity<Void> delete(
             @Parameter(description = "Country code (ECU, ESP, PER, NPL)", example = "ECU", required = true)
             @PathVariable String code) {
-        log.info("Deleting country: code={}", code);
+        log.debug("Deleting country: code={}", code);
         countryService.delete(code);
         
-        log.info("Country deleted successfully: code={}", code);
+        log.debug("Country deleted successfully: code={}", code);
         return ResponseEntity.noContent().build();
     }
 
@@ -2,6 +2,7 @@ package com.savinco.financial.web.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -49,7 +51,7 @@ public class CurrencyController {
         @ApiResponse(responseCode = "409", description = "Currency already exists with this code or attempt to create base currency when one already exists")
     })
     public ResponseEntity<CurrencyResponse> create(@Valid @RequestBody CurrencyRequest request) {
-        log.info("Creating currency: code={}, name={}, isBase={}, exchangeRateToBase={}", 
+        log.debug("Creating currency: code={}, name={}, isBase={}, exchangeRateToBase={}", 
             request.getCode(), request.getName(), request.getIsBase(), request.getExchangeRateToBase());
         
         Currency currency = currencyService.create(
@@ -60,10 +62,10 @@ public class CurrencyController {
         );
         CurrencyResponse response = toResponse(currency);
         
-        log.info("Currency created successfully: id={}, code={}, isBase={}", 
+        log.debug("Currency created successfully: id={}, code={}, isBase={}", 
             response.getId(), response.getCode(), response.getIsBase());
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(currency.getVersion())).body(response);
     }
 
     @GetMapping
@@ -78,12 +80,14 @@ public class CurrencyController {
             .map(this::toResponse)
             .toList();
         
-        log.info("Found {} currencies", response.size());
+        log.debug("Found {} currencies", response.size());
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{code}")
-    @Operation(summary = "Get currency by code", description = "Retrieve currency information by code")
+    @Operation(summary = "Get currency by code", 
+               description = "Retrieve currency information by code. " +
+                           "The ETag header carries the version of the currency, to be sent back in If-Match when updating its rate.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Currency retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid currency code format"),
@@ -96,8 +100,8 @@ public class CurrencyController {
         Currency currency = currencyService.findByCode(code);
         CurrencyResponse response = toResponse(currency);
         
-        log.info("Currency found: code={}, id={}", code, response.getId());
-        return ResponseEntity.ok(response);
+        log.debug("Currency found: code={}, id={}", code, response.getId());
+        return ResponseEntity.ok().eTag(EntityTags.of(currency.getVersion())).body(response);
     }
 
     @GetMapping("/base")
@@ -111,30 +115,37 @@ public class CurrencyController {
         Currency currency = currencyService.getBaseCurrency();
         CurrencyResponse response = toResponse(currency);
         
-        log.info("Base currency found: code={}, id={}", response.getCode(), response.getId());
-        return ResponseEntity.ok(response);
+        log.debug("Base currency found: code={}, id={}", response.getCode(), response.getId());
+        return ResponseEntity.ok().eTag(EntityTags.of(currency.getVersion())).body(response);
     }
 
     @PutMapping("/{code}/exchange-rate")
-    @Operation(summary = "Update exchange rate", description = "Update the exchange rate for a non-base currency")
+    @Operation(summary = "Update exchange rate", 
+               description = "Update the exchange rate for a non-base currency. " +
+                           "With If-Match, the rate is only updated when the currency's current ETag matches; " +
+                           "otherwise 412 is returned without validating the new rate.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Exchange rate updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid request data or cannot update base currency rate"),
-        @ApiResponse(responseCode = "404", description = "Currency not found")
+        @ApiResponse(responseCode = "404", description = "Currency not found"),
+        @ApiResponse(responseCode = "409", description = "Currency was modified concurrently"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
     })
     public ResponseEntity<CurrencyResponse> updateExchangeRate(
             @Parameter(description = "Currency code (EUR, PEN, NPR)", example = "EUR", required = true)
             @PathVariable String code,
+            @Parameter(description = "ETag of the version being updated, or * for any version", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateExchangeRateRequest request) {
-        log.info("Updating exchange rate: code={}, newRate={}", code, request.getExchangeRateToBase());
+        log.debug("Updating exchange rate: code={}, newRate={}", code, request.getExchangeRateToBase());
         
-        Currency currency = currencyService.updateExchangeRate(code, request.getExchangeRateToBase());
+        Currency currency = currencyService.updateExchangeRate(code, request.getExchangeRateToBase(), EntityTags.ifMatch(ifMatch));
         CurrencyResponse response = toResponse(currency);
         
-        log.info("Exchange rate updated successfully: code={}, newRate={}", 
+        log.debug("Exchange rate updated successfully: code={}, newRate={}", 
             code, response.getExchangeRateToBase());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(currency.getVersion())).body(response);
     }
 
     @DeleteMapping("/{code}")
@@ -151,10 +162,10 @@ public class CurrencyController {
     public ResponseEntity<Void> delete(
             @Parameter(description = "Currency code (USD, EUR, PEN, NPR)", example = "EUR", required = true)
             @PathVariable String code) {
-        log.info("Deleting currency: code={}", code);
+        log.debug("Deleting currency: code={}", code);
         currencyService.delete(code);
         
-        log.info("Currency deleted successfully: code={}", code);
+        log.debug("Currency deleted successfully: code={}", code);
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,45 @@
+package com.savinco.financial.web.controller;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.savinco.financial.application.service.VersionPrecondition;
+
+/**
+ * Entity tags derived from optimistic locking versions. A resource at version 3 has the strong
+ * tag {@code "3"}, so a client can send it back in {@code If-Match} without reading first.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String of(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    /**
+     * Parses an {@code If-Match} header, or returns null when there is none. If-Match uses strong
+     * comparison, so weak tags and tags that are not versions never match.
+     */
+    static VersionPrecondition ifMatch(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : header.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return VersionPrecondition.anyVersion();
+            }
+            if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags; it cannot match any version
+                }
+            }
+        }
+        return VersionPrecondition.of(versions);
+    }
+}
@@ -1,8 +1,19 @@
 package com.savinco.financial.web.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
 
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +21,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.savinco.financial.application.dto.ConsolidatedSummaryResponse;
+import com.savinco.financial.application.dto.CurrencySummaryResponse;
+import com.savinco.financial.application.dto.FinancialDataBatchResponse;
+import com.savinco.financial.application.dto.FinancialDataImportResponse;
+import com.savinco.financial.application.dto.FinancialDataPageResponse;
 import com.savinco.financial.application.dto.FinancialDataRequest;
 import com.savinco.financial.application.dto.FinancialDataResponse;
+import com.savinco.financial.application.dto.FinancialDataSearchRequest;
+import com.savinco.financial.application.service.FinancialDataExportService;
+import com.savinco.financial.application.service.FinancialDataImportService;
+import com.savinco.financial.application.service.FinancialDataIngestionService;
+import com.savinco.financial.application.service.FinancialDataQueryCoalescer;
 import com.savinco.financial.application.service.FinancialDataService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +59,15 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Financial Data", description = "API for managing financial data by country")
 public class FinancialDataController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final FinancialDataService financialDataService;
+    private final FinancialDataQueryCoalescer queryCoalescer;
+    private final FinancialDataIngestionService ingestionService;
+    private final FinancialDataExportService exportService;
+    private final FinancialDataImportService importService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create financial data", description = "Create a new financial data record for a country")
@@ -44,31 +77,124 @@ public class FinancialDataController {
         @ApiResponse(responseCode = "409", description = "Financial data already exists for this country")
     })
     public ResponseEntity<FinancialDataResponse> create(@Valid @RequestBody FinancialDataRequest request) {
-        log.info("Creating financial data: countryCode={}, currencyCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
+        log.debug("Creating financial data: countryCode={}, currencyCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
             request.getCountryCode(), request.getCurrencyCode(), 
             request.getCapitalSaved(), request.getCapitalLoaned(), request.getProfitsGenerated());
         
         FinancialDataResponse response = financialDataService.create(request);
         
-        log.info("Financial data created successfully: countryCode={}", response.getCountryCode());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        log.debug("Financial data created successfully: countryCode={}", response.getCountryCode());
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(response.getVersion())).body(response);
+    }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk create financial data", 
+               description = "Create many financial data records in one call. The body is either a JSON array of records " +
+                           "or newline-delimited JSON (application/x-ndjson), and is read as a stream. " +
+                           "Each row is validated independently and the response reports the outcome of every row.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-row results")
+    })
+    public ResponseEntity<FinancialDataBatchResponse> createBatch(InputStream body) throws IOException {
+        log.debug("Bulk creating financial data");
+        
+        try (MappingIterator<FinancialDataRequest> rows = objectMapper
+                .readerFor(FinancialDataRequest.class)
+                .readValues(body)) {
+            FinancialDataBatchResponse response = ingestionService.ingest(rows);
+            
+            log.debug("Bulk creation finished: received={}, created={}, rejected={}", 
+                response.getReceived(), response.getCreated(), response.getRejected());
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    @Operation(summary = "Import financial data from CSV", 
+               description = "Load a CSV file whose header names the columns countryCode, currencyCode, capitalSaved, " +
+                           "capitalLoaned and profitsGenerated (other columns, such as those of an export, are ignored). " +
+                           "Valid rows create or replace the data of their country in a single transaction; " +
+                           "the response reports throughput and every rejected row.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "File imported; see rejected rows"),
+        @ApiResponse(responseCode = "400", description = "Missing or duplicate columns, or malformed CSV")
+    })
+    public ResponseEntity<FinancialDataImportResponse> importCsv(InputStream body) throws IOException {
+        log.debug("Importing financial data from CSV");
+        
+        try (Reader csv = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            FinancialDataImportResponse response = importService.importCsv(csv);
+            
+            log.debug("CSV import finished: received={}, imported={}, rejected={}, rowsPerSecond={}", 
+                response.getReceived(), response.getImported(), response.getRejected(), response.getRowsPerSecond());
+            return ResponseEntity.ok(response);
+        }
     }
 
     @GetMapping
-    @Operation(summary = "Get all financial data", description = "Retrieve all financial data records with values in original currency")
+    @Operation(summary = "List financial data", 
+               description = "Retrieve financial data records with values in original currency, ordered by country code. " +
+                           "Results are paginated with a keyset cursor: pass the 'next' value of a page as 'after' to get the following page. " +
+                           "Optional filters restrict results by currency and amount ranges.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Financial data retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Financial data retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination cursor or filter parameters")
     })
-    public ResponseEntity<List<FinancialDataResponse>> findAll() {
-        log.debug("Finding all financial data");
-        List<FinancialDataResponse> response = financialDataService.findAll();
+    public ResponseEntity<FinancialDataPageResponse> findAll(@ParameterObject @Valid FinancialDataSearchRequest request) {
+        log.debug("Finding financial data page: limit={}, after={}", request.getLimit(), request.getAfter());
+        FinancialDataPageResponse response = queryCoalescer.findPage(request);
         
-        log.info("Found {} financial data records", response.size());
+        log.debug("Found {} financial data records, hasNext={}", response.getItems().size(), response.getNext() != null);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export financial data", 
+               description = "Download every financial data record, ordered by country code, as CSV or newline-delimited JSON. " +
+                           "Rows are streamed from the database as they are read, so exports of any size use constant memory. " +
+                           "The body is gzip-compressed when the request accepts it.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Output format (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Add capitalSavedUSD, capitalLoanedUSD and profitsGeneratedUSD columns", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeUsd,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // Parsed before streaming starts, so an invalid format still gets a regular 400 response
+        FinancialDataExportService.Format exportFormat = FinancialDataExportService.Format.of(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        log.debug("Exporting financial data: format={}, includeUsd={}, gzip={}", exportFormat, includeUsd, gzip);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                exportService.export(exportFormat, includeUsd, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(exportFormat, includeUsd, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("financial-data." + exportFormat.getExtension())
+                .build()
+                .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/{countryCode}")
-    @Operation(summary = "Get financial data by country", description = "Retrieve financial data for a specific country with values in original currency")
+    @Operation(summary = "Get financial data by country", 
+               description = "Retrieve financial data for a specific country with values in original currency. " +
+                           "The ETag header carries the version of the stored data, to be sent back in If-Match when updating it.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Financial data retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid country code"),
@@ -80,42 +206,78 @@ public class FinancialDataController {
         log.debug("Finding financial data by country code: {}", countryCode);
         FinancialDataResponse response = financialDataService.findByCountryCode(countryCode);
         
-        log.info("Financial data found: countryCode={}", countryCode);
-        return ResponseEntity.ok(response);
+        log.debug("Financial data found: countryCode={}", countryCode);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @GetMapping("/summary")
-    @Operation(summary = "Get consolidated summary", description = "Retrieve consolidated summary of all financial data with totals in USD")
+    @Operation(summary = "Get consolidated summary", 
+               description = "Retrieve consolidated summary of all financial data with totals in USD. " +
+                           "With 'asOf', the current amounts are converted at the exchange rates that were in effect at that time. " +
+                           "With 'currency', every amount is converted to that currency at the current exchange rates instead.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Summary retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Summary retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid 'asOf' or 'currency', no exchange rate in effect at that time, or 'asOf' combined with a currency other than the base one"),
+        @ApiResponse(responseCode = "404", description = "Currency not found")
     })
-    public ResponseEntity<ConsolidatedSummaryResponse> getSummary() {
-        log.debug("Getting consolidated summary");
-        ConsolidatedSummaryResponse response = financialDataService.getSummary();
+    public ResponseEntity<ConsolidatedSummaryResponse> getSummary(
+            @Parameter(description = "Point in time for the exchange rates (ISO date-time)", example = "2026-03-31T23:59:59")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @Parameter(description = "Currency of the amounts (defaults to the base currency)", example = "EUR")
+            @RequestParam(required = false) String currency) {
+        log.debug("Getting consolidated summary: asOf={}, currency={}", asOf, currency);
+        ConsolidatedSummaryResponse response = queryCoalescer.getSummary(asOf, currency);
         
-        log.info("Consolidated summary generated: grandTotal={}, countriesCount={}", 
+        log.debug("Consolidated summary generated: grandTotal={}, countriesCount={}", 
             response.getGrandTotal(), response.getByCountry().size());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/summary/by-currency")
+    @Operation(summary = "Get summary by currency",
+               description = "Retrieve consolidated totals in USD from the per-currency totals kept current on every write. " +
+                           "The cost does not grow with the number of countries; amounts are rounded per currency, " +
+                           "so they can differ by cents from the per-country summary.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Summary retrieved successfully")
+    })
+    public ResponseEntity<CurrencySummaryResponse> getSummaryByCurrency() {
+        log.debug("Getting summary by currency");
+        CurrencySummaryResponse response = financialDataService.getSummaryByCurrency();
+
+        log.debug("Summary by currency generated: grandTotal={}, currenciesCount={}",
+            response.getGrandTotal(), response.getByCurrency().size());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{countryCode}")
-    @Operation(summary = "Update financial data", description = "Update financial data for an existing country")
+    @Operation(summary = "Create or replace financial data", 
+               description = "Create the financial data of a country, or replace it when it already exists. " +
+                           "The write is a single atomic statement, so concurrent requests for the same country cannot conflict. " +
+                           "With If-Match, only data whose current ETag matches is replaced; otherwise 412 is returned " +
+                           "before the request is validated against countries and currencies.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Financial data updated successfully"),
+        @ApiResponse(responseCode = "200", description = "Financial data replaced successfully"),
+        @ApiResponse(responseCode = "201", description = "Financial data created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid request data or country code mismatch"),
-        @ApiResponse(responseCode = "404", description = "Financial data not found for this country")
+        @ApiResponse(responseCode = "404", description = "Country or currency not found"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
     })
     public ResponseEntity<FinancialDataResponse> update(
             @Parameter(description = "Country code (ECU, ESP, PER, NPL)", example = "ESP", required = true)
             @PathVariable String countryCode,
+            @Parameter(description = "ETag of the version being replaced, or * for any existing version", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody FinancialDataRequest request) {
-        log.info("Updating financial data: countryCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
+        log.debug("Upserting financial data: countryCode={}, capitalSaved={}, capitalLoaned={}, profitsGenerated={}", 
             countryCode, request.getCapitalSaved(), request.getCapitalLoaned(), request.getProfitsGenerated());
         
-        FinancialDataResponse response = financialDataService.update(countryCode, request);
+        FinancialDataService.UpsertOutcome outcome = financialDataService.upsert(countryCode, request, EntityTags.ifMatch(ifMatch));
         
-        log.info("Financial data updated successfully: countryCode={}", countryCode);
-        return ResponseEntity.ok(response);
+        log.debug("Financial data {} successfully: countryCode={}", outcome.created() ? "created" : "updated", countryCode);
+        return ResponseEntity.status(outcome.created() ? HttpStatus.CREATED : HttpStatus.OK)
+            .eTag(EntityTags.of(outcome.response().getVersion()))
+            .body(outcome.response());
     }
 
     @DeleteMapping("/{countryCode}")
@@ -128,10 +290,10 @@ public class FinancialDataController {
     public ResponseEntity<Void> delete(
             @Parameter(description = "Country code (ECU, ESP, PER, NPL)", example = "ESP", required = true)
             @PathVariable String countryCode) {
-        log.info("Deleting financial data: countryCode={}", countryCode);
+        log.debug("Deleting financial data: countryCode={}", countryCode);
         financialDataService.delete(countryCode);
         
-        log.info("Financial data deleted successfully: countryCode={}", countryCode);
+        log.debug("Financial data deleted successfully: countryCode={}", countryCode);
         return ResponseEntity.noContent().build();
     }
 }
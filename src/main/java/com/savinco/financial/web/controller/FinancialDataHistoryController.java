@@ -0,0 +1,88 @@
+package com.savinco.financial.web.controller;
+
+import java.util.List;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.savinco.financial.application.dto.FinancialDataHistoryRequest;
+import com.savinco.financial.application.dto.FinancialDataSnapshotResponse;
+import com.savinco.financial.application.service.FinancialDataHistoryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/financial-data/history")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Financial Data History", description = "API for monthly snapshots of financial data")
+public class FinancialDataHistoryController {
+
+    private final FinancialDataHistoryService historyService;
+
+    @GetMapping
+    @Operation(summary = "Get history by period", 
+               description = "Retrieve the monthly snapshots of every country between two months (inclusive), " +
+                           "ordered by period and country code")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid period range")
+    })
+    public ResponseEntity<List<FinancialDataSnapshotResponse>> findByPeriodRange(
+            @ParameterObject @Valid FinancialDataHistoryRequest request) {
+        log.debug("Finding financial data history: from={}, to={}", request.getFrom(), request.getTo());
+        List<FinancialDataSnapshotResponse> response = historyService.findByPeriodRange(request);
+        
+        log.debug("Found {} financial data snapshots", response.size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/latest")
+    @Operation(summary = "Get latest snapshot per country", 
+               description = "Retrieve, for every country, its most recent monthly snapshot not after the given month " +
+                           "(current month when omitted)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshots retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid period")
+    })
+    public ResponseEntity<List<FinancialDataSnapshotResponse>> findLatestPerCountry(
+            @Parameter(description = "Month (YYYY-MM) to look back from", example = "2025-06")
+            @RequestParam(required = false) String asOf) {
+        log.debug("Finding latest financial data snapshot per country: asOf={}", asOf);
+        List<FinancialDataSnapshotResponse> response = historyService.findLatestPerCountry(asOf);
+        
+        log.debug("Found latest snapshots for {} countries", response.size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{countryCode}")
+    @Operation(summary = "Get history of a country", 
+               description = "Retrieve the monthly snapshots of one country between two months (inclusive), ordered by period")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid country code or period range")
+    })
+    public ResponseEntity<List<FinancialDataSnapshotResponse>> findCountryHistory(
+            @Parameter(description = "Country code (ECU, ESP, PER, NPL)", example = "ESP", required = true)
+            @PathVariable String countryCode,
+            @ParameterObject @Valid FinancialDataHistoryRequest request) {
+        log.debug("Finding financial data history: countryCode={}, from={}, to={}", 
+            countryCode, request.getFrom(), request.getTo());
+        List<FinancialDataSnapshotResponse> response = historyService.findCountryHistory(countryCode, request);
+        
+        log.debug("Found {} financial data snapshots for country={}", response.size(), countryCode);
+        return ResponseEntity.ok(response);
+    }
+}
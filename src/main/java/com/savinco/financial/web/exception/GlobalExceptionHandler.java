@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,6 +13,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.savinco.financial.application.service.PreconditionFailedException;
+
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -94,6 +99,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(errorResponse);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        // Handled apart from IllegalStateException: an If-Match on a missing resource is a failed precondition, not a 404
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.PRECONDITION_FAILED.value())
+            .message(ex.getMessage())
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                        HttpServletRequest request) {
+        // A concurrent writer won the race; with If-Match the client asked for exactly this check
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+            ? HttpStatus.PRECONDITION_FAILED
+            : HttpStatus.CONFLICT;
+        log.warn("Concurrent modification: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(status.value())
+            .message("The resource was modified concurrently; read it again and retry")
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,33 @@
+-- Migration: Create exchange_rate_history table
+-- Description: Effective-dated exchange rates, one row per validity interval of a currency rate
+-- Author: System
+-- Date: 2026-10-18
+
+-- A rate is valid in [valid_from, valid_to); valid_to is NULL for the rate currently in effect.
+-- Setting a new rate closes the open interval and opens a new one at the same instant, so the
+-- intervals of a currency never overlap and leave no gaps after its creation.
+CREATE TABLE exchange_rate_history (
+    id BIGINT PRIMARY KEY,
+    currency_code VARCHAR(3) NOT NULL,
+    exchange_rate_to_base NUMERIC(19,10) NOT NULL,
+    valid_from TIMESTAMP NOT NULL,
+    valid_to TIMESTAMP,
+    CONSTRAINT chk_exchange_rate_history_interval CHECK (valid_to IS NULL OR valid_to >= valid_from)
+);
+
+CREATE SEQUENCE exchange_rate_history_id_seq INCREMENT BY 50 OWNED BY exchange_rate_history.id;
+
+-- "Rate as of" lookups and the startup load read a currency's intervals in valid_from order
+CREATE INDEX idx_exchange_rate_history_currency_from ON exchange_rate_history(currency_code, valid_from);
+
+-- At most one open interval per currency
+CREATE UNIQUE INDEX idx_exchange_rate_history_open ON exchange_rate_history(currency_code) WHERE valid_to IS NULL;
+
+-- Current rates become the first interval, valid since the currency was created
+INSERT INTO exchange_rate_history (id, currency_code, exchange_rate_to_base, valid_from, valid_to)
+SELECT nextval('exchange_rate_history_id_seq'), code, exchange_rate_to_base, created_at, NULL
+FROM currencies;
+
+COMMENT ON TABLE exchange_rate_history IS 'Validity intervals of currency exchange rates to base currency (USD)';
+COMMENT ON COLUMN exchange_rate_history.valid_from IS 'Start of the interval (inclusive)';
+COMMENT ON COLUMN exchange_rate_history.valid_to IS 'End of the interval (exclusive); NULL while the rate is in effect';
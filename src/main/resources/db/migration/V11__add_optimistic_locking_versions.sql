@@ -0,0 +1,11 @@
+-- Migration: Add optimistic locking versions
+-- Description: Adds optimistic locking version columns to financial_data and currencies
+-- Author: System
+-- Date: 2026-10-18
+
+-- Incremented on every update; writes that expect an older version are rejected
+ALTER TABLE financial_data ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE currencies ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN financial_data.version IS 'Optimistic locking version, exposed as the ETag of the record';
+COMMENT ON COLUMN currencies.version IS 'Optimistic locking version, exposed as the ETag of the currency';
@@ -0,0 +1,22 @@
+-- Migration: Create currency totals table
+-- Description: Per-currency sums of financial data, maintained by the application in the same transaction as every write
+-- Author: System
+-- Date: 2026-10-18
+
+CREATE TABLE IF NOT EXISTS currency_totals (
+    currency_id BIGINT PRIMARY KEY REFERENCES currencies(id) ON DELETE CASCADE,
+    country_count BIGINT NOT NULL DEFAULT 0,
+    capital_saved NUMERIC(38, 2) NOT NULL DEFAULT 0,
+    capital_loaned NUMERIC(38, 2) NOT NULL DEFAULT 0,
+    profits_generated NUMERIC(38, 2) NOT NULL DEFAULT 0
+);
+
+-- Start from the current data; from here on every write adjusts the totals of its currencies
+INSERT INTO currency_totals (currency_id, country_count, capital_saved, capital_loaned, profits_generated)
+SELECT currency_id, COUNT(*), SUM(capital_saved), SUM(capital_loaned), SUM(profits_generated)
+FROM financial_data
+GROUP BY currency_id
+ON CONFLICT (currency_id) DO NOTHING;
+
+COMMENT ON TABLE currency_totals IS 'Sums of financial data per currency, in that currency; the consolidated summary is computed from these rows';
+COMMENT ON COLUMN currency_totals.country_count IS 'Countries whose financial data is in this currency';
@@ -0,0 +1,15 @@
+-- Migration: Add indexes for paginated financial data listing
+-- Description: Supports server-side filters on currency and amounts of the keyset-paginated listing
+-- Author: System
+-- Date: 2026-10-18
+
+-- Keyset pagination (ORDER BY country_code, id) needs no index of its own: country_code is unique,
+-- so id never breaks a tie and the uk_financial_data_country index already gives the order
+
+-- Currency filter combined with the keyset order, so filtered pages are still an index range scan
+CREATE INDEX idx_financial_data_currency_country_id ON financial_data(currency_code, country_code, id);
+
+-- Amount range filters
+CREATE INDEX idx_financial_data_capital_saved ON financial_data(capital_saved);
+CREATE INDEX idx_financial_data_capital_loaned ON financial_data(capital_loaned);
+CREATE INDEX idx_financial_data_profits_generated ON financial_data(profits_generated);
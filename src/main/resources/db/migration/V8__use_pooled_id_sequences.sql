@@ -0,0 +1,12 @@
+-- Migration: Use pooled sequence allocation for primary keys
+-- Description: Entities now take ids from their sequences in blocks of 50 (Hibernate pooled optimizer), so inserts can be JDBC-batched
+-- Author: System
+-- Date: 2026-10-18
+
+-- The BIGSERIAL sequences stay the column defaults. With the pooled optimizer each nextval
+-- returned to Hibernate is the upper end of a block of 50 ids, and any nextval taken by a plain
+-- SQL insert is the upper end of a block nobody else uses, so both writers never collide.
+-- INCREMENT BY must match allocationSize on the entities.
+ALTER SEQUENCE currencies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE countries_id_seq INCREMENT BY 50;
+ALTER SEQUENCE financial_data_id_seq INCREMENT BY 50;
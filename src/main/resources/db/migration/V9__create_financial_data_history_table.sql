@@ -0,0 +1,49 @@
+-- Migration: Create financial_data_history table
+-- Description: Monthly snapshots of financial data per country, range-partitioned by period
+-- Author: System
+-- Date: 2026-10-18
+
+-- One row per country and month; period_start is the first day of the month.
+-- Every create/update of financial_data writes the snapshot of the current month, so a
+-- month keeps the last values written during it.
+CREATE TABLE financial_data_history (
+    country_code VARCHAR(3) NOT NULL,
+    period_start DATE NOT NULL,
+    currency_code VARCHAR(3) NOT NULL,
+    capital_saved NUMERIC(19,2) NOT NULL,
+    capital_loaned NUMERIC(19,2) NOT NULL,
+    profits_generated NUMERIC(19,2) NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- The partition key must be part of the primary key. (country_code, period_start) also
+    -- serves "country over time" range scans and the MAX(period_start) lookup behind
+    -- "latest per country", one short backward index scan per country.
+    CONSTRAINT pk_financial_data_history PRIMARY KEY (country_code, period_start),
+    CONSTRAINT chk_financial_data_history_period CHECK (EXTRACT(DAY FROM period_start) = 1)
+) PARTITION BY RANGE (period_start);
+
+-- Period range queries across countries: partitions outside the range are pruned, this index
+-- covers the range inside the remaining ones
+CREATE INDEX idx_financial_data_history_period_country ON financial_data_history(period_start, country_code);
+
+-- Yearly partitions. New years must be added ahead of time (same statement with the next year);
+-- rows outside every range land in the default partition instead of failing.
+DO $$
+BEGIN
+    FOR year IN 2015..2035 LOOP
+        EXECUTE format(
+            'CREATE TABLE financial_data_history_%s PARTITION OF financial_data_history FOR VALUES FROM (%L) TO (%L)',
+            year, make_date(year, 1, 1), make_date(year + 1, 1, 1)
+        );
+    END LOOP;
+END $$;
+
+CREATE TABLE financial_data_history_default PARTITION OF financial_data_history DEFAULT;
+
+-- Seed history with the existing rows, in the month each was last written
+INSERT INTO financial_data_history (country_code, period_start, currency_code, capital_saved, capital_loaned, profits_generated, recorded_at)
+SELECT country_code, date_trunc('month', updated_at)::date, currency_code, capital_saved, capital_loaned, profits_generated, updated_at
+FROM financial_data;
+
+COMMENT ON TABLE financial_data_history IS 'Monthly snapshots of financial data by country in original currency, partitioned by year';
+COMMENT ON COLUMN financial_data_history.period_start IS 'First day of the month the snapshot belongs to';
+COMMENT ON COLUMN financial_data_history.recorded_at IS 'When the snapshot was last written';
@@ -0,0 +1,88 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.savinco.financial.bdd.support.TestContext;
+import com.savinco.financial.web.config.AccessLogProperties;
+
+import io.cucumber.java.After;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class AccessLogSteps {
+
+    // Crockford base32, timestamp first
+    private static final String ULID_PATTERN = "[0-7][0-9A-HJKMNP-TV-Z]{25}";
+
+    @Autowired
+    private AccessLogProperties accessLogProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestContext testContext;
+
+    private Double originalSampleRate;
+    private double written;
+    private double sampledOut;
+
+    @Given("successful requests are sampled into the access log at {double}")
+    public void successfulRequestsAreSampledAt(double sampleRate) {
+        originalSampleRate = accessLogProperties.getSuccessSampleRate();
+        accessLogProperties.setSuccessSampleRate(sampleRate);
+    }
+
+    @Given("I record the access log counters")
+    public void iRecordTheAccessLogCounters() {
+        written = count("written");
+        sampledOut = count("sampled_out");
+    }
+
+    @Then("the response should have a generated request ID")
+    public void theResponseShouldHaveAGeneratedRequestId() {
+        String requestId = testContext.getLastResponse().getHeaders().getFirst("X-Request-Id");
+        assertNotNull(requestId, "Response has no X-Request-Id header");
+        assertTrue(requestId.matches(ULID_PATTERN), "Request ID is not a ULID: " + requestId);
+    }
+
+    @Then("the access log should have written at least {int} more line(s)")
+    public void theAccessLogShouldHaveWrittenAtLeastMoreLines(int lines) throws InterruptedException {
+        assertTrue(awaitCount("written", written + lines) - written >= lines, "Access log lines written");
+    }
+
+    @Then("the access log should have sampled out at least {int} more request(s)")
+    public void theAccessLogShouldHaveSampledOutAtLeastMoreRequests(int requests) throws InterruptedException {
+        assertTrue(awaitCount("sampled_out", sampledOut + requests) - sampledOut >= requests,
+            "Requests sampled out of the access log");
+    }
+
+    @After
+    public void restoreSampleRate() {
+        if (originalSampleRate != null) {
+            accessLogProperties.setSuccessSampleRate(originalSampleRate);
+        }
+    }
+
+    /**
+     * The line is written after the response body was flushed to the client, so it may lag
+     * behind the response by a moment.
+     */
+    private double awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (count(result) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return count(result);
+    }
+
+    private double count(String result) {
+        Counter counter = meterRegistry.find("http.server.requests.access.log").tag("result", result).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,144 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.ExchangeRateChangeRecorder;
+import com.savinco.financial.bdd.support.TestContext;
+import com.savinco.financial.domain.repository.DataVersion;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ConditionalGetSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private ExchangeRateChangeRecorder exchangeRateChanges;
+
+    @LocalServerPort
+    private int port;
+
+    private String notedETag;
+    private long notedLastModified;
+    private double notedNotModified;
+
+    @When("I poll the {string} endpoint")
+    public void iPollTheEndpoint(String endpoint) {
+        poll(endpoint, new HttpHeaders());
+    }
+
+    @When("I poll the {string} endpoint with the noted ETag")
+    public void iPollTheEndpointWithTheNotedETag(String endpoint) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(notedETag);
+        poll(endpoint, headers);
+    }
+
+    @When("I poll the {string} endpoint with the noted Last-Modified")
+    public void iPollTheEndpointWithTheNotedLastModified(String endpoint) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(notedLastModified);
+        poll(endpoint, headers);
+    }
+
+    @When("I note the validators of the response")
+    public void iNoteTheValidatorsOfTheResponse() {
+        HttpHeaders headers = testContext.getLastResponse().getHeaders();
+        notedETag = headers.getETag();
+        notedLastModified = headers.getLastModified();
+        notedNotModified = notModifiedCount();
+        assertNotNull(notedETag, "Response should have an ETag");
+    }
+
+    @When("the last write is at least a second old")
+    public void theLastWriteIsAtLeastASecondOld() throws InterruptedException {
+        // Last-Modified is only sent once the second of the last write is over
+        Thread.sleep(1100);
+    }
+
+    @Then("the response should have the noted ETag")
+    public void theResponseShouldHaveTheNotedETag() {
+        assertEquals(notedETag, testContext.getLastResponse().getHeaders().getETag(), "Unexpected ETag");
+    }
+
+    @Then("the response should have a different ETag than the noted one")
+    public void theResponseShouldHaveADifferentETagThanTheNotedOne() {
+        String etag = testContext.getLastResponse().getHeaders().getETag();
+        assertNotNull(etag, "Response should have an ETag");
+        assertNotEquals(notedETag, etag, "ETag should have changed");
+    }
+
+    @Then("the data version should have changed after the rate change of {string} was applied")
+    public void theDataVersionShouldHaveChangedAfterTheRateChangeWasApplied(String currencyCode) {
+        Long seenByListeners = exchangeRateChanges.versionSeenByListeners(currencyCode);
+        assertNotNull(seenByListeners, "No rate change of " + currencyCode + " was applied");
+        // Otherwise a response rendered before the listeners ran would be tagged with the final version
+        assertTrue(dataVersion.current() > seenByListeners, "Data version was not bumped after the rate change listeners");
+    }
+
+    @Then("the response should have a Last-Modified date")
+    public void theResponseShouldHaveALastModifiedDate() {
+        assertTrue(testContext.getLastResponse().getHeaders().getLastModified() > 0, "Response should have a Last-Modified date");
+    }
+
+    @Then("the response should have no body")
+    public void theResponseShouldHaveNoBody() {
+        assertNull(testContext.getLastResponse().getBody(), "Response should have no body");
+    }
+
+    @Then("{int} more conditional request(s) should have been answered not modified")
+    public void moreConditionalRequestsShouldHaveBeenAnsweredNotModified(int count) {
+        assertEquals(count, notModifiedCount() - notedNotModified, 0.0);
+    }
+
+    private void poll(String endpoint, HttpHeaders headers) {
+        ResponseEntity<String> response = restTemplate.exchange(urlOf(endpoint), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        testContext.setLastResponse(response);
+    }
+
+    private String urlOf(String endpoint) {
+        return switch (endpoint) {
+            case "financial data" -> urlBuilder.buildFinancialDataUrl(port);
+            case "summary" -> urlBuilder.buildFinancialDataSummaryUrl(port);
+            case "summary by currency" -> urlBuilder.buildFinancialDataSummaryByCurrencyUrl(port);
+            case "currencies" -> urlBuilder.buildCurrencyUrl(port);
+            case "countries" -> urlBuilder.buildCountryUrl(port);
+            default -> throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        };
+    }
+
+    private double notModifiedCount() {
+        return meterRegistry.find("http.server.requests.conditional").tag("result", "not_modified").counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+}
@@ -0,0 +1,89 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class ConditionalUpdateSteps {
+
+    // Stands for the ETag noted from an earlier response
+    private static final String NOTED_ETAG = "NOTED";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    private String notedETag;
+
+    @When("I note the ETag of the response")
+    public void iNoteTheETagOfTheResponse() {
+        notedETag = testContext.getLastResponse().getHeaders().getETag();
+        assertNotNull(notedETag, "Response should have an ETag");
+    }
+
+    @Then("the response should have ETag {string}")
+    public void theResponseShouldHaveETag(String expected) {
+        assertEquals(expected, testContext.getLastResponse().getHeaders().getETag(), "Unexpected ETag");
+    }
+
+    @When("I update financial data for country {string} with If-Match {string} with:")
+    public void iUpdateFinancialDataForCountryWithIfMatchWith(String countryCode, String ifMatch, DataTable dataTable) {
+        Map<String, String> data = dataTable.asMaps(String.class, String.class).get(0);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("countryCode", countryCode);
+        requestBody.put("currencyCode", data.get("currencyCode"));
+        requestBody.put("capitalSaved", new BigDecimal(data.get("capitalSaved")));
+        requestBody.put("capitalLoaned", new BigDecimal(data.get("capitalLoaned")));
+        requestBody.put("profitsGenerated", new BigDecimal(data.get("profitsGenerated")));
+
+        put(urlBuilder.buildFinancialDataUrl(port, countryCode), requestBody, ifMatch);
+    }
+
+    @When("I update exchange rate for currency {string} to {string} with If-Match {string}")
+    public void iUpdateExchangeRateForCurrencyToWithIfMatch(String code, String newRate, String ifMatch) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("exchangeRateToBase", new BigDecimal(newRate));
+
+        put(urlBuilder.buildCurrencyExchangeRateUrl(port, code), requestBody, ifMatch);
+    }
+
+    private void put(String url, Map<String, Object> requestBody, String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_MATCH, NOTED_ETAG.equals(ifMatch) ? notedETag : ifMatch);
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            url,
+            HttpMethod.PUT,
+            new HttpEntity<>(requestBody, headers),
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+}
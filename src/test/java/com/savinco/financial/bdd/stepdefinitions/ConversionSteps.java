@@ -0,0 +1,89 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class ConversionSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    @When("I convert {string} {string} to {string}")
+    public void iConvertTo(String amount, String from, String to) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            urlBuilder.buildConversionUrl(port, from, to, amount),
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @When("I convert {int} amounts of {string} from {string} to {string} in one batch")
+    public void iConvertAmountsOfFromToInOneBatch(int count, String amount, String from, String to) {
+        List<Map<String, Object>> conversions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> conversion = new HashMap<>();
+            conversion.put("from", from);
+            conversion.put("to", to);
+            conversion.put("amount", new BigDecimal(amount));
+            conversions.add(conversion);
+        }
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            urlBuilder.buildConversionUrl(port),
+            HttpMethod.POST,
+            new HttpEntity<>(Map.of("conversions", conversions)),
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the converted amount should be {string}")
+    public void theConvertedAmountShouldBe(String expected) {
+        Object converted = testContext.getLastResponseBodyAsMap().get("convertedAmount");
+        assertNotNull(converted, "Response should contain a converted amount");
+        assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(converted.toString())),
+            "Expected converted amount " + expected + " but was " + converted);
+    }
+
+    @Then("the batch should contain {int} converted amounts of {string}")
+    @SuppressWarnings("unchecked")
+    public void theBatchShouldContainConvertedAmountsOf(int count, String expected) {
+        List<Map<String, Object>> results = (List<Map<String, Object>>) testContext.getLastResponseBodyAsMap().get("results");
+        assertNotNull(results, "Response should contain results");
+        assertEquals(count, results.size(), "Unexpected number of results");
+        for (Map<String, Object> result : results) {
+            assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(result.get("convertedAmount").toString())),
+                "Expected converted amount " + expected + " but was " + result.get("convertedAmount"));
+        }
+    }
+}
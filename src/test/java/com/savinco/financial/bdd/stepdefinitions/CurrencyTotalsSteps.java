@@ -0,0 +1,118 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+import com.savinco.financial.domain.model.CurrencyTotals;
+import com.savinco.financial.domain.model.FinancialData;
+import com.savinco.financial.domain.repository.CurrencyTotalsRepository;
+import com.savinco.financial.domain.repository.FinancialDataRepository;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class CurrencyTotalsSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private CurrencyTotalsRepository currencyTotalsRepository;
+
+    @Autowired
+    private FinancialDataRepository financialDataRepository;
+
+    @LocalServerPort
+    private int port;
+
+    @When("I request the financial data summary by currency")
+    public void iRequestTheFinancialDataSummaryByCurrency() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            urlBuilder.buildFinancialDataSummaryByCurrencyUrl(port),
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the summary by currency should list {int} currencies")
+    public void theSummaryByCurrencyShouldListCurrencies(int expected) {
+        assertEquals(expected, byCurrency().size());
+    }
+
+    @Then("currency {string} in the summary by currency should have {int} countries and capital saved {string}")
+    public void currencyInTheSummaryByCurrencyShouldHave(String currencyCode, int countries, String capitalSaved) {
+        Map<String, Object> currency = byCurrency().stream()
+            .filter(item -> currencyCode.equals(item.get("currencyCode")))
+            .findFirst()
+            .orElse(null);
+        assertNotNull(currency, "Currency " + currencyCode + " not found in the summary by currency");
+        assertEquals(countries, ((Number) currency.get("countries")).intValue());
+        assertEquals(0, new BigDecimal(capitalSaved).compareTo(new BigDecimal(currency.get("capitalSaved").toString())),
+            "Capital saved of " + currencyCode + " was " + currency.get("capitalSaved"));
+    }
+
+    @Then("the summary by currency should have a grand total of {string}")
+    public void theSummaryByCurrencyShouldHaveAGrandTotalOf(String grandTotal) {
+        Object actual = testContext.getLastResponseBodyAsMap().get("grandTotal");
+        assertEquals(0, new BigDecimal(grandTotal).compareTo(new BigDecimal(actual.toString())),
+            "Grand total was " + actual);
+    }
+
+    @Then("the currency totals should match the financial data")
+    public void theCurrencyTotalsShouldMatchTheFinancialData() {
+        Map<String, BigDecimal[]> expected = new TreeMap<>();
+        for (FinancialData data : financialDataRepository.findAll()) {
+            BigDecimal[] sums = expected.computeIfAbsent(data.getCurrency().getCode().getValue(),
+                code -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+            sums[0] = sums[0].add(BigDecimal.ONE);
+            sums[1] = sums[1].add(data.getCapitalSaved());
+            sums[2] = sums[2].add(data.getCapitalLoaned());
+            sums[3] = sums[3].add(data.getProfitsGenerated());
+        }
+
+        Map<String, BigDecimal[]> actual = new TreeMap<>();
+        for (CurrencyTotals totals : currencyTotalsRepository.findAll()) {
+            actual.put(totals.getCurrency().getCode().getValue(), new BigDecimal[] {
+                BigDecimal.valueOf(totals.getCountries()),
+                totals.getCapitalSaved(),
+                totals.getCapitalLoaned(),
+                totals.getProfitsGenerated()
+            });
+        }
+
+        assertEquals(expected.keySet(), actual.keySet(), "Currencies with totals differ");
+        expected.forEach((currencyCode, sums) -> {
+            for (int i = 0; i < sums.length; i++) {
+                assertEquals(0, sums[i].compareTo(actual.get(currencyCode)[i]),
+                    "Totals of " + currencyCode + " differ: expected " + sums[i] + " but was " + actual.get(currencyCode)[i]);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> byCurrency() {
+        return (List<Map<String, Object>>) testContext.getLastResponseBodyAsMap().get("byCurrency");
+    }
+}
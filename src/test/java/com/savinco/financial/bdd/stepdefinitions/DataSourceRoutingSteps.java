@@ -0,0 +1,92 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class DataSourceRoutingSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    private final Map<String, Double> connectionsBefore = new HashMap<>();
+
+    @Given("I record the connections routed to the {string} pool")
+    public void iRecordTheConnectionsRoutedToThePool(String route) {
+        connectionsBefore.put(route, connections(route));
+    }
+
+    @When("I request financial data for country {string} with the cookies of the last response")
+    public void iRequestFinancialDataForCountryWithTheCookiesOfTheLastResponse(String countryCode) {
+        assertNotNull(testContext.getLastResponse(), "Response should not be null");
+        List<String> setCookies = testContext.getLastResponse().getHeaders().get(HttpHeaders.SET_COOKIE);
+        assertNotNull(setCookies, "Last response should set a cookie");
+        assertFalse(setCookies.isEmpty(), "Last response should set a cookie");
+
+        HttpHeaders headers = new HttpHeaders();
+        // Send back name=value of each cookie, without its attributes
+        setCookies.forEach(cookie -> headers.add(HttpHeaders.COOKIE, cookie.split(";", 2)[0]));
+
+        String url = urlBuilder.buildFinancialDataUrl(port, countryCode);
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("at least {int} more connections should have been routed to the {string} pool")
+    public void atLeastMoreConnectionsShouldHaveBeenRoutedToThePool(int expected, String route) {
+        double routed = connections(route) - connectionsBefore.getOrDefault(route, 0.0);
+        assertTrue(routed >= expected,
+            "Expected at least " + expected + " connections routed to " + route + " but got " + routed);
+    }
+
+    @Then("no more connections should have been routed to the {string} pool")
+    public void noMoreConnectionsShouldHaveBeenRoutedToThePool(String route) {
+        double routed = connections(route) - connectionsBefore.getOrDefault(route, 0.0);
+        assertEquals(0.0, routed, "Expected no connections routed to " + route);
+    }
+
+    private double connections(String route) {
+        Counter counter = meterRegistry.find("datasource.routing.connections").tag("route", route).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.When;
+
+public class ExchangeRateHistorySteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    private LocalDateTime notedTime;
+
+    @Given("I note the current time")
+    public void iNoteTheCurrentTime() {
+        notedTime = LocalDateTime.now();
+    }
+
+    @When("I request financial data summary as of the noted time")
+    public void iRequestFinancialDataSummaryAsOfTheNotedTime() {
+        iRequestFinancialDataSummaryAsOf(notedTime.toString());
+    }
+
+    @When("I request financial data summary as of {string}")
+    public void iRequestFinancialDataSummaryAsOf(String asOf) {
+        String url = urlBuilder.buildFinancialDataSummaryUrl(port, asOf);
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+}
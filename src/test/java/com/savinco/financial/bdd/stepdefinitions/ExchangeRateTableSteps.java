@@ -0,0 +1,97 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.savinco.financial.application.service.CurrencyConverterService;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.CurrencyPrimitives;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class ExchangeRateTableSteps {
+
+    @Autowired
+    private CurrencyConverterService currencyConverter;
+
+    private long notedVersion;
+    private List<Currency> currencies;
+    private ExchangeRateTable table;
+
+    @When("I note the exchange rate table version")
+    public void iNoteTheExchangeRateTableVersion() {
+        notedVersion = currencyConverter.rates().getVersion();
+    }
+
+    @Then("the exchange rate table version should have advanced")
+    public void theExchangeRateTableVersionShouldHaveAdvanced() {
+        assertTrue(currencyConverter.rates().getVersion() > notedVersion, "A new exchange rate table should have been published");
+    }
+
+    @Then("the exchange rate table should hold rate {string} for currency {string}")
+    public void theExchangeRateTableShouldHoldRateForCurrency(String rate, String code) {
+        ExchangeRateTable.Rate found = currencyConverter.rates().find(new CurrencyCode(code));
+        assertNotNull(found, "Exchange rate table should hold currency " + code);
+        assertEquals(0, new BigDecimal(rate).compareTo(found.exchangeRateToBase()),
+            "Expected rate " + rate + " but was " + found.exchangeRateToBase());
+    }
+
+    @Then("the exchange rate table should not hold currency {string}")
+    public void theExchangeRateTableShouldNotHoldCurrency(String code) {
+        assertNull(currencyConverter.rates().find(new CurrencyCode(code)),
+            "Exchange rate table should not hold currency " + code);
+    }
+
+    @When("I build an exchange rate table of every other three-letter code")
+    public void iBuildAnExchangeRateTableOfEveryOtherThreeLetterCode() {
+        currencies = new ArrayList<>();
+        int index = 0;
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                for (char third = 'A'; third <= 'Z'; third++) {
+                    if (index++ % 2 == 0) {
+                        currencies.add(Currency.create(CurrencyPrimitives.builder()
+                            .code("" + first + second + third)
+                            .name("Currency " + index)
+                            .isBase(false)
+                            .exchangeRateToBase(BigDecimal.valueOf(index, 2))
+                            .build()));
+                    }
+                }
+            }
+        }
+        table = new ExchangeRateTable(1, currencies);
+    }
+
+    @Then("every code should be found with its own rate and no other code should be found")
+    public void everyCodeShouldBeFoundWithItsOwnRateAndNoOtherCodeShouldBeFound() {
+        assertEquals(currencies.size(), table.size());
+        for (Currency currency : currencies) {
+            ExchangeRateTable.Rate rate = table.find(currency.getCode());
+            assertNotNull(rate, "Missing " + currency.getCode().getValue());
+            assertEquals(currency.getCode(), rate.code());
+            assertEquals(currency.getExchangeRateToBase(), rate.exchangeRateToBase());
+        }
+        int index = 0;
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                for (char third = 'A'; third <= 'Z'; third++) {
+                    if (index++ % 2 == 1) {
+                        assertNull(table.find(new CurrencyCode("" + first + second + third)));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class FinancialDataBatchSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @When("I bulk create financial data as {string} with:")
+    public void iBulkCreateFinancialDataAsWith(String format, DataTable dataTable) throws JsonProcessingException {
+        List<Map<String, Object>> rows = dataTable.asMaps(String.class, String.class).stream()
+            .map(this::toRequestBody)
+            .toList();
+
+        HttpHeaders headers = new HttpHeaders();
+        String body;
+        if ("ndjson".equals(format)) {
+            headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+            StringBuilder ndjson = new StringBuilder();
+            for (Map<String, Object> row : rows) {
+                ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+            }
+            body = ndjson.toString();
+        } else {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            body = objectMapper.writeValueAsString(rows);
+        }
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            urlBuilder.buildFinancialDataBatchUrl(port),
+            HttpMethod.POST,
+            new HttpEntity<>(body, headers),
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the batch should report {int} received, {int} created and {int} rejected")
+    public void theBatchShouldReportReceivedCreatedAndRejected(int received, int created, int rejected) {
+        Map<String, Object> body = testContext.getLastResponseBodyAsMap();
+        assertNotNull(body, "Response body should not be null");
+        assertEquals(received, body.get("received"), "Unexpected received count");
+        assertEquals(created, body.get("created"), "Unexpected created count");
+        assertEquals(rejected, body.get("rejected"), "Unexpected rejected count");
+    }
+
+    @Then("batch row {int} should be {string}")
+    @SuppressWarnings("unchecked")
+    public void batchRowShouldBe(int index, String expectedStatus) {
+        Map<String, Object> body = testContext.getLastResponseBodyAsMap();
+        assertNotNull(body, "Response body should not be null");
+        Map<Integer, Map<String, Object>> results = ((List<Map<String, Object>>) body.get("results")).stream()
+            .collect(Collectors.toMap(r -> (Integer) r.get("index"), r -> r));
+        assertNotNull(results.get(index), "Batch should contain a result for row " + index);
+        assertEquals(expectedStatus, results.get(index).get("status"),
+            "Unexpected status for row " + index + ": " + results.get(index).get("message"));
+    }
+
+    private Map<String, Object> toRequestBody(Map<String, String> row) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("countryCode", row.get("countryCode"));
+        requestBody.put("currencyCode", row.get("currencyCode"));
+        requestBody.put("capitalSaved", new BigDecimal(row.get("capitalSaved")));
+        requestBody.put("capitalLoaned", new BigDecimal(row.get("capitalLoaned")));
+        requestBody.put("profitsGenerated", new BigDecimal(row.get("profitsGenerated")));
+        return requestBody;
+    }
+}
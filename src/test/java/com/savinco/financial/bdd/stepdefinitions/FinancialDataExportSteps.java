@@ -0,0 +1,125 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class FinancialDataExportSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    private List<String> exportLines;
+
+    @When("I export financial data as {string}")
+    public void iExportFinancialDataAs(String format) throws IOException {
+        export(format, false, false);
+    }
+
+    @When("I export financial data as {string} with USD columns")
+    public void iExportFinancialDataAsWithUsdColumns(String format) throws IOException {
+        export(format, true, false);
+    }
+
+    @When("I export financial data as {string} accepting gzip")
+    public void iExportFinancialDataAsAcceptingGzip(String format) throws IOException {
+        export(format, false, true);
+    }
+
+    @Then("the export content type should be {string}")
+    public void theExportContentTypeShouldBe(String contentType) {
+        assertNotNull(testContext.getLastResponse().getHeaders().getContentType(), "Export should have a content type");
+        assertTrue(testContext.getLastResponse().getHeaders().getContentType().toString().startsWith(contentType),
+            "Unexpected content type: " + testContext.getLastResponse().getHeaders().getContentType());
+    }
+
+    @Then("the export should be gzip encoded")
+    public void theExportShouldBeGzipEncoded() {
+        assertEquals("gzip", testContext.getLastResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING),
+            "Export should be gzip encoded");
+    }
+
+    @Then("the export should have {int} lines")
+    public void theExportShouldHaveLines(int expected) {
+        assertNotNull(exportLines, "No export was requested");
+        assertEquals(expected, exportLines.size(), "Unexpected export lines: " + exportLines);
+    }
+
+    @Then("export line {int} should be {string}")
+    public void exportLineShouldBe(int index, String expected) {
+        assertNotNull(exportLines, "No export was requested");
+        assertTrue(index < exportLines.size(), "Export has only " + exportLines.size() + " lines");
+        assertEquals(expected, exportLines.get(index), "Unexpected export line " + index);
+    }
+
+    @Then("export record {int} should have {string} equal to {string}")
+    public void exportRecordShouldHaveEqualTo(int index, String field, String expected) throws IOException {
+        assertNotNull(exportLines, "No export was requested");
+        // Amounts are compared as exported, so they are read as BigDecimal rather than double
+        Map<String, Object> record = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {})
+            .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .readValue(exportLines.get(index));
+        assertNotNull(record.get(field), "Export record " + index + " should contain " + field);
+        assertEquals(expected, String.valueOf(record.get(field)), "Unexpected " + field + " in export record " + index);
+    }
+
+    private void export(String format, boolean includeUsd, boolean gzip) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        if (gzip) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+            urlBuilder.buildFinancialDataExportUrl(port, format, includeUsd),
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            byte[].class
+        );
+        testContext.setLastResponse(response);
+
+        byte[] body = response.getBody() != null ? response.getBody() : new byte[0];
+        boolean compressed = "gzip".equals(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (InputStream in = compressed
+                ? new GZIPInputStream(new ByteArrayInputStream(body))
+                : new ByteArrayInputStream(body)) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            exportLines = text.isEmpty() ? List.of() : List.of(text.split("\r?\n"));
+        }
+    }
+}
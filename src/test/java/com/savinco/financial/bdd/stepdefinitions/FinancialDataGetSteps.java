@@ -2,6 +2,7 @@ package com.savinco.financial.bdd.stepdefinitions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
@@ -37,12 +38,35 @@ public class FinancialDataGetSteps {
 
     @When("I request all financial data")
     public void iRequestAllFinancialData() {
-        String url = urlBuilder.buildFinancialDataUrl(port);
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
+        requestFinancialDataPage(urlBuilder.buildFinancialDataUrl(port));
+    }
+
+    @When("I request financial data with limit {int}")
+    public void iRequestFinancialDataWithLimit(int limit) {
+        requestFinancialDataPage(urlBuilder.buildFinancialDataUrl(port) + "?limit=" + limit);
+    }
+
+    @When("I request the next page of financial data with limit {int}")
+    @SuppressWarnings("unchecked")
+    public void iRequestTheNextPageOfFinancialDataWithLimit(int limit) {
+        Map<String, Object> body = (Map<String, Object>) testContext.getLastResponse().getBody();
+        assertNotNull(body, "Previous page body should not be null");
+        String next = (String) body.get("next");
+        assertNotNull(next, "Previous page should have a next cursor");
+        requestFinancialDataPage(urlBuilder.buildFinancialDataUrl(port) + "?limit=" + limit + "&after=" + next);
+    }
+
+    @When("I request financial data with query {string}")
+    public void iRequestFinancialDataWithQuery(String query) {
+        requestFinancialDataPage(urlBuilder.buildFinancialDataUrl(port) + "?" + query);
+    }
+
+    private void requestFinancialDataPage(String url) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
             url,
             HttpMethod.GET,
             null,
-            new ParameterizedTypeReference<List<Map<String, Object>>>() {}
+            new ParameterizedTypeReference<Map<String, Object>>() {}
         );
         testContext.setLastResponse(response);
     }
@@ -73,34 +97,72 @@ public class FinancialDataGetSteps {
 
     @Then("the response should be an empty list")
     public void theResponseShouldBeAnEmptyList() {
-        assertNotNull(testContext.getLastResponse(), "Response should not be null");
-        List<?> body = (List<?>) testContext.getLastResponse().getBody();
-        assertNotNull(body, "Response body should not be null");
-        assertTrue(body.isEmpty(), "Response should be an empty list");
+        List<Map<String, Object>> items = getPageItems();
+        assertTrue(items.isEmpty(), "Response should be an empty list");
     }
 
     @Then("the response should be a list with {int} items")
     public void theResponseShouldBeAListWithItems(int expectedCount) {
-        assertNotNull(testContext.getLastResponse(), "Response should not be null");
-        List<?> body = (List<?>) testContext.getLastResponse().getBody();
-        assertNotNull(body, "Response body should not be null");
-        assertEquals(expectedCount, body.size(), 
+        List<Map<String, Object>> items = getPageItems();
+        assertEquals(expectedCount, items.size(), 
             "Expected list to have " + expectedCount + " items");
     }
 
     @Then("the list should contain country code {string}")
-    @SuppressWarnings("unchecked")
     public void theListShouldContainCountryCode(String expectedCountryCode) {
-        assertNotNull(testContext.getLastResponse(), "Response should not be null");
-        List<Map<String, Object>> body = (List<Map<String, Object>>) testContext.getLastResponse().getBody();
-        assertNotNull(body, "Response body should not be null");
+        List<Map<String, Object>> items = getPageItems();
         
-        boolean found = body.stream()
+        boolean found = items.stream()
             .anyMatch(item -> expectedCountryCode.equals(item.get("countryCode")));
         
         assertTrue(found, "List should contain country code " + expectedCountryCode);
     }
 
+    @Then("the list should contain country codes in order {string}")
+    public void theListShouldContainCountryCodesInOrder(String expectedCountryCodes) {
+        List<String> actual = getPageItems().stream()
+            .map(item -> (String) item.get("countryCode"))
+            .toList();
+        assertEquals(List.of(expectedCountryCodes.split(",")), actual,
+            "Expected country codes in order " + expectedCountryCodes);
+    }
+
+    @Then("the page should have a next cursor")
+    @SuppressWarnings("unchecked")
+    public void thePageShouldHaveANextCursor() {
+        Map<String, Object> body = (Map<String, Object>) testContext.getLastResponse().getBody();
+        assertNotNull(body, "Response body should not be null");
+        assertNotNull(body.get("next"), "Page should have a next cursor");
+    }
+
+    @Then("the page should not have a next cursor")
+    @SuppressWarnings("unchecked")
+    public void thePageShouldNotHaveANextCursor() {
+        Map<String, Object> body = (Map<String, Object>) testContext.getLastResponse().getBody();
+        assertNotNull(body, "Response body should not be null");
+        assertNull(body.get("next"), "Page should not have a next cursor");
+    }
+
+    @Then("the response should contain error message about invalid pagination cursor")
+    public void theResponseShouldContainErrorMessageAboutInvalidPaginationCursor() {
+        Map<String, Object> body = testContext.getLastResponseBodyAsMap();
+        assertNotNull(body, "Response body should not be null");
+        Object message = body.get("message");
+        assertNotNull(message, "Error message should not be null");
+        assertTrue(message.toString().toLowerCase().contains("cursor"),
+            "Error message should mention the invalid cursor: " + message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getPageItems() {
+        assertNotNull(testContext.getLastResponse(), "Response should not be null");
+        Map<String, Object> body = (Map<String, Object>) testContext.getLastResponse().getBody();
+        assertNotNull(body, "Response body should not be null");
+        List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("items");
+        assertNotNull(items, "Page items should not be null");
+        return items;
+    }
+
 
     @Then("the summary should contain total capital saved {string}")
     @SuppressWarnings("unchecked")
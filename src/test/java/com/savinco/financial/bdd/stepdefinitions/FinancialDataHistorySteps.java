@@ -0,0 +1,92 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class FinancialDataHistorySteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    @When("I request financial data history from {string} to {string}")
+    public void iRequestFinancialDataHistoryFromTo(String from, String to) {
+        get(urlBuilder.buildFinancialDataHistoryUrl(port, resolvePeriod(from), resolvePeriod(to)));
+    }
+
+    @When("I request financial data history of country {string} from {string} to {string}")
+    public void iRequestFinancialDataHistoryOfCountryFromTo(String countryCode, String from, String to) {
+        get(urlBuilder.buildFinancialDataHistoryUrl(port, countryCode, resolvePeriod(from), resolvePeriod(to)));
+    }
+
+    @When("I request the latest financial data snapshots")
+    public void iRequestTheLatestFinancialDataSnapshots() {
+        get(urlBuilder.buildFinancialDataLatestHistoryUrl(port));
+    }
+
+    @Then("the history should contain {int} snapshots")
+    public void theHistoryShouldContainSnapshots(int expected) {
+        assertEquals(expected, getSnapshots().size(), "Unexpected number of snapshots");
+    }
+
+    @Then("snapshot {int} should be for country {string} in the current month with capital saved {string}")
+    public void snapshotShouldBeForCountryInTheCurrentMonthWithCapitalSaved(int index, String countryCode, String capitalSaved) {
+        List<Map<String, Object>> snapshots = getSnapshots();
+        assertTrue(index < snapshots.size(), "History should contain snapshot " + index);
+        Map<String, Object> snapshot = snapshots.get(index);
+        assertEquals(countryCode, snapshot.get("countryCode"), "Unexpected country in snapshot " + index);
+        assertEquals(YearMonth.now().toString(), snapshot.get("period"), "Unexpected period in snapshot " + index);
+        assertEquals(0, new BigDecimal(capitalSaved).compareTo(new BigDecimal(snapshot.get("capitalSaved").toString())),
+            "Unexpected capital saved in snapshot " + index);
+    }
+
+    private void get(String url) {
+        ResponseEntity<Object> response = restTemplate.exchange(url, HttpMethod.GET, null, Object.class);
+        testContext.setLastResponse(response);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getSnapshots() {
+        assertNotNull(testContext.getLastResponse(), "Response should not be null");
+        Object body = testContext.getLastResponse().getBody();
+        assertInstanceOf(List.class, body, "Response body should be a list of snapshots");
+        return (List<Map<String, Object>>) body;
+    }
+
+    // "CURRENT_MONTH" / "PREVIOUS_YEAR" keep scenarios independent of the date they run on
+    private static String resolvePeriod(String period) {
+        return switch (period) {
+            case "CURRENT_MONTH" -> YearMonth.now().toString();
+            case "PREVIOUS_YEAR_START" -> YearMonth.now().minusYears(1).withMonth(1).toString();
+            case "PREVIOUS_YEAR_END" -> YearMonth.now().minusYears(1).withMonth(12).toString();
+            default -> period;
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+public class FinancialDataImportSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    @When("I import financial data from CSV:")
+    public void iImportFinancialDataFromCsv(String csv) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            urlBuilder.buildFinancialDataImportUrl(port),
+            HttpMethod.POST,
+            new HttpEntity<>(csv, headers),
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the import should report {int} received, {int} imported and {int} rejected")
+    public void theImportShouldReportReceivedImportedAndRejected(int received, int imported, int rejected) {
+        Map<String, Object> body = testContext.getLastResponseBodyAsMap();
+        assertNotNull(body, "Response body should not be null");
+        assertEquals(received, ((Number) body.get("received")).intValue(), "Unexpected received count");
+        assertEquals(imported, ((Number) body.get("imported")).intValue(), "Unexpected imported count");
+        assertEquals(rejected, ((Number) body.get("rejected")).intValue(), "Unexpected rejected count: " + body.get("rejects"));
+        assertNotNull(body.get("rowsPerSecond"), "Import should report its throughput");
+    }
+
+    @Then("import row {int} should be rejected with message containing {string}")
+    @SuppressWarnings("unchecked")
+    public void importRowShouldBeRejectedWithMessageContaining(int row, String message) {
+        Map<String, Object> body = testContext.getLastResponseBodyAsMap();
+        assertNotNull(body, "Response body should not be null");
+        Map<String, Object> reject = ((List<Map<String, Object>>) body.get("rejects")).stream()
+            .filter(r -> ((Number) r.get("row")).intValue() == row)
+            .findFirst()
+            .orElse(null);
+        assertNotNull(reject, "Import should report row " + row + " as rejected: " + body.get("rejects"));
+        assertTrue(((String) reject.get("message")).contains(message),
+            "Unexpected reject message for row " + row + ": " + reject.get("message"));
+    }
+}
@@ -0,0 +1,146 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.savinco.financial.application.service.CurrencyConverterService;
+import com.savinco.financial.domain.model.Currency;
+import com.savinco.financial.domain.model.CurrencyCode;
+import com.savinco.financial.domain.model.CurrencyPrimitives;
+import com.savinco.financial.domain.model.ExchangeRateTable;
+import com.savinco.financial.domain.model.FixedPointRate;
+import com.savinco.financial.domain.model.Money;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+/**
+ * Property checks of the fixed-point amounts against the BigDecimal computation they replace,
+ * over random amounts of the NUMERIC(19,2) range and rates of the NUMERIC(19,10) range.
+ */
+public class FixedPointMoneySteps {
+
+    private static final long MAX_MINOR_UNITS = 99_999_999_999_999_999L;
+    private static final CurrencyCode CURRENCY = new CurrencyCode("EUR");
+
+    @Autowired
+    private CurrencyConverterService currencyConverter;
+
+    private final List<String> mismatches = new ArrayList<>();
+    private int checked;
+    private int fixedPoint;
+
+    @When("I convert {int} random amounts at random exchange rates with seed {long}")
+    public void iConvertRandomAmountsAtRandomExchangeRatesWithSeed(int count, long seed) {
+        Random random = new Random(seed);
+        List<BigDecimal> amounts = new ArrayList<>(List.of(
+            BigDecimal.ZERO, new BigDecimal("0.01"), new BigDecimal("0.05"), Money.toBigDecimal(MAX_MINOR_UNITS)));
+        List<BigDecimal> rates = new ArrayList<>(List.of(
+            BigDecimal.ONE, new BigDecimal("0.9"), new BigDecimal("3.7"), new BigDecimal("0.0000000001"),
+            new BigDecimal("999999999.9999999999"), new BigDecimal("1000.0000000000")));
+        while (amounts.size() < count) {
+            amounts.add(Money.toBigDecimal(randomMinorUnits(random)));
+            rates.add(randomRate(random));
+        }
+
+        for (int i = 0; i < amounts.size(); i++) {
+            BigDecimal amount = amounts.get(i);
+            BigDecimal rate = rates.get(i % rates.size());
+            Currency currency = Currency.create(CurrencyPrimitives.builder()
+                .code(CURRENCY.getValue())
+                .name("Euro")
+                .isBase(false)
+                .exchangeRateToBase(rate)
+                .build());
+
+            BigDecimal expected = amount.compareTo(BigDecimal.ZERO) == 0
+                ? BigDecimal.ZERO
+                : amount.divide(rate, 2, RoundingMode.HALF_UP);
+            ExchangeRateTable rateTable = new ExchangeRateTable(1, List.of(currency));
+            check(amount, rate, "convertToUSD", expected, currencyConverter.convertToUSD(rateTable, currency, amount));
+
+            FixedPointRate fixedPointRate = FixedPointRate.of(rate);
+            if (fixedPointRate != null) {
+                try {
+                    long minorUnits = fixedPointRate.toBaseMinorUnits(Money.minorUnitsOf(amount));
+                    check(amount, rate, "toBaseMinorUnits", amount.divide(rate, 2, RoundingMode.HALF_UP), Money.toBigDecimal(minorUnits));
+                    fixedPoint++;
+                } catch (ArithmeticException e) {
+                    // Overflow: the converter falls back to BigDecimal, checked above
+                }
+            }
+            checked++;
+        }
+    }
+
+    @When("I add {int} random amounts in minor units with seed {long}")
+    public void iAddRandomAmountsInMinorUnitsWithSeed(int count, long seed) {
+        Random random = new Random(seed);
+        Money total = new Money(0, CURRENCY);
+        BigDecimal expected = BigDecimal.ZERO.setScale(Money.SCALE);
+        for (int i = 0; i < count; i++) {
+            Money amount = Money.of(Money.toBigDecimal(randomMinorUnits(random) / count), CURRENCY);
+            total = total.plus(amount);
+            expected = expected.add(amount.toBigDecimal());
+            checked++;
+        }
+        if (!expected.equals(total.toBigDecimal())) {
+            mismatches.add("sum: expected " + expected + " but was " + total.toBigDecimal());
+        }
+    }
+
+    @Then("every fixed-point result should equal the BigDecimal result")
+    public void everyFixedPointResultShouldEqualTheBigDecimalResult() {
+        assertTrue(checked > 0, "Nothing was checked");
+        assertEquals(List.of(), mismatches.stream().limit(10).toList(), "Fixed-point results differ from BigDecimal");
+    }
+
+    @Then("at least {int}% of the conversions should have been computed in fixed point")
+    public void atLeastOfTheConversionsShouldHaveBeenComputedInFixedPoint(int percent) {
+        assertTrue(fixedPoint * 100L >= (long) checked * percent,
+            "Only " + fixedPoint + " of " + checked + " conversions were computed in fixed point");
+    }
+
+    @Then("adding {int} minor unit to the largest amount should overflow")
+    public void addingMinorUnitToTheLargestAmountShouldOverflow(int minorUnits) {
+        Money largest = new Money(Long.MAX_VALUE, CURRENCY);
+        try {
+            largest.plus(new Money(minorUnits, CURRENCY));
+        } catch (ArithmeticException e) {
+            return;
+        }
+        throw new AssertionError("Adding to the largest amount did not overflow");
+    }
+
+    private void check(BigDecimal amount, BigDecimal rate, String operation, BigDecimal expected, BigDecimal actual) {
+        // equals, not compareTo: the scale is part of the rendered JSON
+        if (!expected.equals(actual)) {
+            mismatches.add(operation + "(" + amount + " / " + rate + "): expected " + expected + " but was " + actual);
+        }
+    }
+
+    /**
+     * Spreads the amounts over every magnitude of the range rather than clustering them near the top.
+     */
+    private static long randomMinorUnits(Random random) {
+        int digits = 1 + random.nextInt(17);
+        long bound = (long) Math.pow(10, digits);
+        return Math.min(MAX_MINOR_UNITS, Math.floorMod(random.nextLong(), bound));
+    }
+
+    private static BigDecimal randomRate(Random random) {
+        int scale = random.nextInt(11);
+        int integerDigits = random.nextInt(10);
+        long bound = (long) Math.pow(10, Math.min(18, scale + integerDigits));
+        long unscaled = 1 + Math.floorMod(random.nextLong(), bound);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+}
@@ -0,0 +1,68 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+
+public class MethodTimingSteps {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Long> recordedCalls = new HashMap<>();
+
+    @Given("I record the timed calls of {string} method {string} with outcome {string}")
+    public void iRecordTheTimedCallsOf(String className, String method, String outcome) {
+        recordedCalls.put(key(className, method, outcome), count(className, method, outcome));
+    }
+
+    @Then("{string} method {string} should have been timed at least {int} more time(s) with outcome {string}")
+    public void methodShouldHaveBeenTimedAtLeastMoreTimes(String className, String method, int times, String outcome) {
+        long before = recordedCalls.getOrDefault(key(className, method, outcome), 0L);
+        long after = count(className, method, outcome);
+        assertTrue(after - before >= times,
+            "Expected at least " + times + " more timed calls of " + className + "." + method
+                + " with outcome " + outcome + ", got " + (after - before));
+    }
+
+    @Then("the timer of {string} method {string} should have a bucket at {string}")
+    public void theTimerShouldHaveABucketAt(String className, String method, String bucket) {
+        Timer timer = timer(className, method, "SUCCESS");
+        assertNotNull(timer, "No timer for " + className + "." + method);
+        double bucketNanos = DurationStyle.detectAndParse(bucket).toNanos();
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertTrue(Arrays.stream(buckets).anyMatch(b -> b.bucket(TimeUnit.NANOSECONDS) == bucketNanos),
+            "Expected a histogram bucket at " + bucket + " for " + className + "." + method);
+    }
+
+    private long count(String className, String method, String outcome) {
+        Timer timer = timer(className, method, outcome);
+        return timer != null ? timer.count() : 0L;
+    }
+
+    private Timer timer(String className, String method, String outcome) {
+        String name = className.startsWith("Jpa") ? "financial.repository.calls" : "financial.service.calls";
+        return meterRegistry.find(name)
+            .tag("class", className)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .timer();
+    }
+
+    private static String key(String className, String method, String outcome) {
+        return className + "." + method + ":" + outcome;
+    }
+}
@@ -0,0 +1,85 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.savinco.financial.infrastructure.persistence.entity.CountryEntity;
+import com.savinco.financial.infrastructure.persistence.entity.CurrencyEntity;
+import com.savinco.financial.infrastructure.persistence.repository.SpringDataCountryRepository;
+import com.savinco.financial.infrastructure.persistence.repository.SpringDataCurrencyRepository;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import jakarta.persistence.EntityManagerFactory;
+
+public class PersistenceBatchingSteps {
+
+    @Autowired
+    private SpringDataCountryRepository countryRepository;
+
+    @Autowired
+    private SpringDataCurrencyRepository currencyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long savedRows;
+
+    @When("I save {int} countries with currency {string} in one transaction")
+    public void iSaveCountriesWithCurrencyInOneTransaction(int count, String currencyCode) {
+        CurrencyEntity currency = currencyRepository.findByCode(currencyCode)
+            .orElseThrow(() -> new AssertionError("Currency should exist: " + currencyCode));
+
+        List<CountryEntity> countries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String code = toCountryCode(i);
+            countries.add(CountryEntity.builder()
+                .code(code)
+                .name("Country " + code)
+                .currencyId(currency.getId())
+                .build());
+        }
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> countryRepository.saveAll(countries));
+        savedRows = statistics.getEntityInsertCount();
+    }
+
+    @Then("{int} rows should have been inserted")
+    public void rowsShouldHaveBeenInserted(int expected) {
+        assertEquals(expected, savedRows, "Unexpected number of inserted rows");
+    }
+
+    @Then("at most {int} JDBC statements should have been prepared")
+    public void atMostJdbcStatementsShouldHaveBeenPrepared(int budget) {
+        long prepared = statistics().getPrepareStatementCount();
+        assertTrue(prepared <= budget,
+            "Expected at most " + budget + " prepared statements (sequence calls + insert batches) but got " + prepared);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // AAA, AAB, ... so generated codes never clash within one scenario
+    private static String toCountryCode(int index) {
+        return new String(new char[] {
+            (char) ('A' + index / 676 % 26),
+            (char) ('A' + index / 26 % 26),
+            (char) ('A' + index % 26)
+        });
+    }
+}
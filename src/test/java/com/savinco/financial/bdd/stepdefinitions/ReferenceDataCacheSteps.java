@@ -0,0 +1,38 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ReferenceDataCacheSteps {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Double> hitsBefore = new HashMap<>();
+
+    @Given("I record the hits of the {string} cache")
+    public void iRecordTheHitsOfTheCache(String cache) {
+        hitsBefore.put(cache, hits(cache));
+    }
+
+    @Then("the {string} cache should have served at least {int} more hits")
+    public void theCacheShouldHaveServedAtLeastMoreHits(String cache, int expected) {
+        double served = hits(cache) - hitsBefore.getOrDefault(cache, 0.0);
+        assertTrue(served >= expected,
+            "Expected at least " + expected + " hits on cache " + cache + " but got " + served);
+    }
+
+    private double hits(String cache) {
+        Counter counter = meterRegistry.find("cache.gets").tag("cache", cache).tag("result", "hit").counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,172 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.application.dto.FinancialDataPageResponse;
+import com.savinco.financial.application.dto.FinancialDataSearchRequest;
+import com.savinco.financial.application.service.FinancialDataQueryCoalescer;
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.infrastructure.persistence.routing.ReadYourWritesContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class RequestCoalescingSteps {
+
+    private static final String SUMMARY_FLIGHT = "financial-data.summary";
+    private static final String PAGE_FLIGHT = "financial-data.page";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private FinancialDataQueryCoalescer queryCoalescer;
+
+    @LocalServerPort
+    private int port;
+
+    private final List<ResponseEntity<Map<String, Object>>> responses = new ArrayList<>();
+    private final List<FinancialDataPageResponse> pages = new ArrayList<>();
+    private double callsBefore;
+    private double pagesExecutedBefore;
+
+    @When("{int} clients request the financial data summary at the same time")
+    public void clientsRequestTheFinancialDataSummaryAtTheSameTime(int clients) throws Exception {
+        callsBefore = summaryCalls("executed") + summaryCalls("coalesced") + renderedResponseHits();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<ResponseEntity<Map<String, Object>>>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.exchange(
+                        urlBuilder.buildFinancialDataSummaryUrl(port),
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<Map<String, Object>>() {}
+                    );
+                }));
+            }
+            start.countDown();
+            for (Future<ResponseEntity<Map<String, Object>>> future : futures) {
+                responses.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @When("{int} pinned and {int} unpinned callers list financial data at the same time")
+    public void pinnedAndUnpinnedCallersListFinancialDataAtTheSameTime(int pinned, int unpinned) throws Exception {
+        pagesExecutedBefore = pageCalls("executed");
+        FinancialDataSearchRequest request = FinancialDataSearchRequest.builder().build();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(pinned + unpinned);
+        try {
+            List<Future<FinancialDataPageResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < pinned + unpinned; i++) {
+                boolean pin = i < pinned;
+                futures.add(executor.submit(() -> {
+                    // As ReadYourWritesFilter tracks each request, without the HTTP layer's own pinning
+                    ReadYourWritesContext.begin(pin, () -> {});
+                    try {
+                        start.await();
+                        return queryCoalescer.findPage(request);
+                    } finally {
+                        ReadYourWritesContext.end();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<FinancialDataPageResponse> future : futures) {
+                pages.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Then("all {int} pages should list the same {int} records")
+    public void allPagesShouldListTheSameRecords(int callers, int records) {
+        assertEquals(callers, pages.size());
+        for (FinancialDataPageResponse page : pages) {
+            assertEquals(records, page.getItems().size());
+            assertEquals(pages.get(0).getItems(), page.getItems());
+        }
+    }
+
+    @Then("at least {int} page computations should have been executed")
+    public void atLeastPageComputationsShouldHaveBeenExecuted(int expected) {
+        double executed = pageCalls("executed") - pagesExecutedBefore;
+        assertTrue(executed >= expected,
+            "Expected at least " + expected + " page computations but got " + executed);
+    }
+
+    @Then("all {int} summary responses should have status {int} and the same grand total")
+    public void allSummaryResponsesShouldHaveStatusAndTheSameGrandTotal(int clients, int status) {
+        assertEquals(clients, responses.size());
+        Object grandTotal = responses.get(0).getBody().get("grandTotal");
+        for (ResponseEntity<Map<String, Object>> response : responses) {
+            assertEquals(status, response.getStatusCode().value());
+            assertEquals(grandTotal, response.getBody().get("grandTotal"));
+        }
+    }
+
+    @Then("{int} summary calls should have been executed or coalesced")
+    public void summaryCallsShouldHaveBeenExecutedOrCoalesced(int calls) {
+        // How many join a computation, or arrive once its response is cached, depends on timing;
+        // every call is counted exactly once either way
+        double served = summaryCalls("executed") + summaryCalls("coalesced") + renderedResponseHits();
+        assertEquals(calls, served - callsBefore, 0.0);
+    }
+
+    private double renderedResponseHits() {
+        Counter counter = meterRegistry.find("cache.gets")
+            .tag("cache", "responses")
+            .tag("result", "hit")
+            .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double summaryCalls(String result) {
+        return flightCalls(SUMMARY_FLIGHT, result);
+    }
+
+    private double pageCalls(String result) {
+        return flightCalls(PAGE_FLIGHT, result);
+    }
+
+    private double flightCalls(String name, String result) {
+        Counter counter = meterRegistry.find("singleflight.calls")
+            .tag("name", name)
+            .tag("result", result)
+            .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ResponseCacheSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    private double notedHits;
+
+    @When("I note the response cache hits")
+    public void iNoteTheResponseCacheHits() {
+        notedHits = responseCacheHits();
+    }
+
+    @When("I list all currencies accepting gzip")
+    public void iListAllCurrenciesAcceptingGzip() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+            urlBuilder.buildCurrencyUrl(port),
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            byte[].class
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the response cache should have served {int} more hit(s)")
+    public void theResponseCacheShouldHaveServedMoreHits(int hits) {
+        assertEquals(hits, responseCacheHits() - notedHits, 0.0);
+    }
+
+    @Then("the response should be gzip encoded JSON containing {string}")
+    public void theResponseShouldBeGzipEncodedJsonContaining(String text) throws IOException {
+        ResponseEntity<?> response = testContext.getLastResponse();
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), "Response should be gzip encoded");
+        assertTrue(response.getHeaders().getContentType().toString().contains("json"), "Response should be JSON");
+        try (InputStream body = new GZIPInputStream(new ByteArrayInputStream((byte[]) response.getBody()))) {
+            String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains(text), "Response should contain " + text + " but was " + json);
+        }
+    }
+
+    private double responseCacheHits() {
+        Counter counter = meterRegistry.find("cache.gets").tag("cache", "responses").tag("result", "hit").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
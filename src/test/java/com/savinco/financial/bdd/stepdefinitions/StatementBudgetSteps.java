@@ -0,0 +1,54 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.savinco.financial.bdd.support.StatementBudgetRecorder;
+import com.savinco.financial.bdd.support.TestContext;
+import com.savinco.financial.web.config.RequestStatementsMeasured;
+
+import io.cucumber.java.en.Then;
+
+public class StatementBudgetSteps {
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private StatementBudgetRecorder recorder;
+
+    @Then("the request should issue at most {int} SQL statement(s)")
+    public void theRequestShouldIssueAtMostSqlStatements(int maxStatements) throws InterruptedException {
+        RequestStatementsMeasured measured = lastMeasurement();
+        assertTrue(measured.statements() <= maxStatements,
+            measured.endpoint() + " issued " + measured.statements() + " SQL statements, expected at most " + maxStatements);
+    }
+
+    @Then("the request should stay within the statement budget of {string}")
+    public void theRequestShouldStayWithinTheStatementBudgetOf(String endpoint) throws InterruptedException {
+        RequestStatementsMeasured measured = lastMeasurement();
+        assertEquals(endpoint, measured.endpoint());
+        assertFalse(measured.exceeded(),
+            endpoint + " issued " + measured.statements() + " SQL statements over its budget of " + measured.budget());
+    }
+
+    @Then("the request should be reported over the statement budget of {string}")
+    public void theRequestShouldBeReportedOverTheStatementBudgetOf(String endpoint) throws InterruptedException {
+        RequestStatementsMeasured measured = lastMeasurement();
+        assertEquals(endpoint, measured.endpoint());
+        assertTrue(measured.exceeded(),
+            endpoint + " issued " + measured.statements() + " SQL statements within its budget of " + measured.budget());
+    }
+
+    private RequestStatementsMeasured lastMeasurement() throws InterruptedException {
+        String requestId = testContext.getLastResponse().getHeaders().getFirst("X-Request-Id");
+        assertNotNull(requestId, "Response has no X-Request-Id header");
+        RequestStatementsMeasured measured = recorder.measurementOf(requestId);
+        assertNotNull(measured, "No SQL statement count was recorded for request " + requestId);
+        return measured;
+    }
+}
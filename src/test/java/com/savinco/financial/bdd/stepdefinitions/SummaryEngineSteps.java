@@ -0,0 +1,44 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.savinco.financial.application.service.IncrementalSummaryEngine;
+import com.savinco.financial.application.service.JavaSummaryEngine;
+import com.savinco.financial.application.service.SqlSummaryEngine;
+import com.savinco.financial.domain.model.ConsolidatedSummary;
+
+import io.cucumber.java.en.Then;
+
+public class SummaryEngineSteps {
+
+    @Autowired
+    private JavaSummaryEngine javaSummaryEngine;
+
+    @Autowired
+    private SqlSummaryEngine sqlSummaryEngine;
+
+    @Autowired
+    private IncrementalSummaryEngine incrementalSummaryEngine;
+
+    @Then("the SQL summary engine should return the same summary as the Java summary engine")
+    public void theSqlSummaryEngineShouldReturnTheSameSummaryAsTheJavaSummaryEngine() {
+        ConsolidatedSummary expected = javaSummaryEngine.summarize();
+        ConsolidatedSummary actual = sqlSummaryEngine.summarize();
+
+        // Value objects compare BigDecimal with equals, so scale differences fail as well
+        assertEquals(expected.getByCountry(), actual.getByCountry(), "Per-country USD amounts differ");
+        assertEquals(expected.getTotalCapitalSaved(), actual.getTotalCapitalSaved(), "Total capital saved differs");
+        assertEquals(expected.getTotalCapitalLoaned(), actual.getTotalCapitalLoaned(), "Total capital loaned differs");
+        assertEquals(expected.getTotalProfitsGenerated(), actual.getTotalProfitsGenerated(), "Total profits generated differs");
+        assertEquals(expected.getGrandTotal(), actual.getGrandTotal(), "Grand total differs");
+    }
+
+    @Then("the in-memory summary should be consistent with a full rebuild")
+    public void theInMemorySummaryShouldBeConsistentWithAFullRebuild() {
+        IncrementalSummaryEngine.ConsistencyReport report = incrementalSummaryEngine.checkConsistency();
+        assertTrue(report.consistent(), "In-memory summary differs for countries " + report.mismatchedCountries());
+    }
+}
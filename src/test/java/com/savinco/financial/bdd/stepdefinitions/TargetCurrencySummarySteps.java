@@ -0,0 +1,77 @@
+package com.savinco.financial.bdd.stepdefinitions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import com.savinco.financial.bdd.support.ApiUrlBuilder;
+import com.savinco.financial.bdd.support.TestContext;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class TargetCurrencySummarySteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ApiUrlBuilder urlBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    private double notedCacheSize;
+
+    @When("I request financial data summary in {string}")
+    public void iRequestFinancialDataSummaryIn(String currencyCode) {
+        request(urlBuilder.buildFinancialDataSummaryInCurrencyUrl(port, currencyCode));
+    }
+
+    @When("I request financial data summary in {string} as of {string}")
+    public void iRequestFinancialDataSummaryInAsOf(String currencyCode, String asOf) {
+        request(urlBuilder.buildFinancialDataSummaryInCurrencyUrl(port, currencyCode, asOf));
+    }
+
+    @When("I note the number of cached summaries by target currency")
+    public void iNoteTheNumberOfCachedSummariesByTargetCurrency() {
+        notedCacheSize = cachedSummaries();
+    }
+
+    @Then("{int} fewer summaries by target currency should be cached")
+    public void fewerSummariesByTargetCurrencyShouldBeCached(int dropped) {
+        assertEquals(notedCacheSize - dropped, cachedSummaries(), 0.0);
+    }
+
+    private double cachedSummaries() {
+        Gauge gauge = meterRegistry.find("cache.size").tag("cache", "summary-by-target-currency").gauge();
+        assertNotNull(gauge, "Summary cache by target currency should be measured");
+        return gauge.value();
+    }
+
+    private void request(String url) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+}
@@ -12,6 +12,7 @@ public class ApiUrlBuilder {
     private static final String FINANCIAL_DATA_ENDPOINT = BASE_PATH + "/financial-data";
     private static final String CURRENCY_ENDPOINT = BASE_PATH + "/currencies";
     private static final String COUNTRY_ENDPOINT = BASE_PATH + "/countries";
+    private static final String CONVERSION_ENDPOINT = BASE_PATH + "/conversions";
 
     private String getHost() {
         return System.getenv("TEST_API_HOST") != null 
@@ -35,6 +36,46 @@ public class ApiUrlBuilder {
         return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/summary");
     }
 
+    public String buildFinancialDataSummaryByCurrencyUrl(int port) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/summary/by-currency");
+    }
+
+    public String buildFinancialDataSummaryUrl(int port, String asOf) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/summary?asOf=" + asOf);
+    }
+
+    public String buildFinancialDataSummaryInCurrencyUrl(int port, String currencyCode) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/summary?currency=" + currencyCode);
+    }
+
+    public String buildFinancialDataSummaryInCurrencyUrl(int port, String currencyCode, String asOf) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/summary?currency=" + currencyCode + "&asOf=" + asOf);
+    }
+
+    public String buildFinancialDataBatchUrl(int port) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/batch");
+    }
+
+    public String buildFinancialDataImportUrl(int port) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/import");
+    }
+
+    public String buildFinancialDataExportUrl(int port, String format, boolean includeUsd) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/export?format=" + format + "&includeUsd=" + includeUsd);
+    }
+
+    public String buildFinancialDataHistoryUrl(int port, String from, String to) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/history?from=" + from + "&to=" + to);
+    }
+
+    public String buildFinancialDataHistoryUrl(int port, String countryCode, String from, String to) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/history/" + countryCode + "?from=" + from + "&to=" + to);
+    }
+
+    public String buildFinancialDataLatestHistoryUrl(int port) {
+        return buildUrl(port, FINANCIAL_DATA_ENDPOINT + "/history/latest");
+    }
+
     public String buildCurrencyUrl(int port) {
         return buildUrl(port, CURRENCY_ENDPOINT);
     }
@@ -59,6 +100,14 @@ public class ApiUrlBuilder {
         return buildUrl(port, COUNTRY_ENDPOINT + "/" + code);
     }
 
+    public String buildConversionUrl(int port) {
+        return buildUrl(port, CONVERSION_ENDPOINT);
+    }
+
+    public String buildConversionUrl(int port, String from, String to, String amount) {
+        return buildUrl(port, CONVERSION_ENDPOINT + "?from=" + from + "&to=" + to + "&amount=" + amount);
+    }
+
     private String buildUrl(int port, String path) {
         return String.format("%s://%s:%d%s", PROTOCOL, getHost(), port, path);
     }
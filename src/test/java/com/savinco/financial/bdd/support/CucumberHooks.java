@@ -1,11 +1,19 @@
 package com.savinco.financial.bdd.support;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.savinco.financial.application.service.CurrencyConverterService;
+import com.savinco.financial.application.service.ExchangeRateHistoryService;
+import com.savinco.financial.application.service.IncrementalSummaryEngine;
+import com.savinco.financial.application.service.TargetCurrencySummaryService;
 import com.savinco.financial.domain.repository.CountryRepository;
 import com.savinco.financial.domain.repository.CurrencyRepository;
+import com.savinco.financial.domain.repository.DataVersion;
+import com.savinco.financial.domain.repository.ExchangeRateHistoryRepository;
+import com.savinco.financial.domain.repository.FinancialDataHistoryRepository;
 import com.savinco.financial.domain.repository.FinancialDataRepository;
 
 import io.cucumber.java.Before;
@@ -19,8 +27,15 @@ import lombok.RequiredArgsConstructor;
 public class CucumberHooks {
 
     private final FinancialDataRepository financialDataRepository;
+    private final FinancialDataHistoryRepository financialDataHistoryRepository;
     private final CurrencyRepository currencyRepository;
     private final CountryRepository countryRepository;
+    private final ExchangeRateHistoryRepository exchangeRateHistoryRepository;
+    private final ExchangeRateHistoryService exchangeRateHistoryService;
+    private final CurrencyConverterService currencyConverter;
+    private final ObjectProvider<IncrementalSummaryEngine> incrementalSummaryEngine;
+    private final TargetCurrencySummaryService targetCurrencySummaries;
+    private final DataVersion dataVersion;
 
     @Before
     @Transactional
@@ -28,7 +43,16 @@ public class CucumberHooks {
         // Clean database before each scenario
         // Order matters: delete in reverse dependency order
         financialDataRepository.deleteAll();
+        financialDataHistoryRepository.deleteAll();
         countryRepository.deleteAll();
         currencyRepository.deleteAll();
+        exchangeRateHistoryRepository.deleteAll();
+        // Rows were removed behind the services' back, so the in-memory state must start over
+        currencyConverter.rebuild();
+        incrementalSummaryEngine.ifAvailable(IncrementalSummaryEngine::rebuild);
+        exchangeRateHistoryService.rebuild();
+        targetCurrencySummaries.invalidateAll();
+        // Rendered responses of the previous scenario no longer match the data
+        dataVersion.bump();
     }
 }
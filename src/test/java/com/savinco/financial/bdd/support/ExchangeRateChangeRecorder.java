@@ -0,0 +1,34 @@
+package com.savinco.financial.bdd.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.savinco.financial.application.event.ExchangeRateChangedEvent;
+import com.savinco.financial.domain.repository.DataVersion;
+
+/**
+ * Keeps the data version seen by the after-commit listeners of the last rate change of each
+ * currency, so scenarios can assert the version moved on once the listeners had run.
+ */
+@Component
+public class ExchangeRateChangeRecorder {
+
+    private final DataVersion dataVersion;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public ExchangeRateChangeRecorder(DataVersion dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        versions.put(event.currencyCode().getValue(), dataVersion.current());
+    }
+
+    public Long versionSeenByListeners(String currencyCode) {
+        return versions.get(currencyCode);
+    }
+}
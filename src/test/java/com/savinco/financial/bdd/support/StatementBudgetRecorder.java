@@ -0,0 +1,42 @@
+package com.savinco.financial.bdd.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.savinco.financial.web.config.RequestStatementsMeasured;
+
+/**
+ * Keeps the SQL statement count of every request by its X-Request-Id (the test profile samples
+ * all requests), so scenarios can assert the statement budget of the call they just made.
+ */
+@Component
+public class StatementBudgetRecorder {
+
+    private static final long WAIT_MILLIS = 2000;
+
+    private final Map<String, RequestStatementsMeasured> measurements = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onMeasured(RequestStatementsMeasured measured) {
+        if (measured.requestId() != null) {
+            measurements.put(measured.requestId(), measured);
+        }
+    }
+
+    /**
+     * Returns the measurement of the request, waiting briefly because the server records it
+     * after the response may already have reached the client.
+     */
+    public RequestStatementsMeasured measurementOf(String requestId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        RequestStatementsMeasured measured = measurements.get(requestId);
+        while (measured == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            measured = measurements.get(requestId);
+        }
+        return measured;
+    }
+}
@@ -0,0 +1,34 @@
+Feature: Access Log
+  As an operator
+  I want one structured line per request, written off the request thread
+  So that logging does not cap throughput and every request can still be traced
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - IDs are generated without SecureRandom on the request path
+  Scenario: Requests without an ID get a generated one
+    When I request all financial data
+    Then I should receive status code 200 immediately
+    And the response should have a generated request ID
+
+  # SYNC: Happy path - one line per request
+  Scenario: Each request is written to the access log once
+    Given I record the access log counters
+    When I request financial data for country "ECU"
+    Then I should receive status code 200 immediately
+    And the access log should have written at least 1 more line
+
+  # SYNC: Happy path - successful requests are sampled, failed ones are always written
+  Scenario: Only failed requests are written when successful ones are not sampled
+    Given successful requests are sampled into the access log at 0.0
+    And I record the access log counters
+    When I request financial data for country "ECU"
+    Then I should receive status code 200 immediately
+    When I request financial data for country "ZZZ"
+    Then I should receive status code 404 immediately
+    And the access log should have written at least 1 more line
+    And the access log should have sampled out at least 1 more request
@@ -0,0 +1,56 @@
+Feature: Conditional GET
+  As an API client polling for changes
+  I want read endpoints to answer 304 Not Modified when nothing changed
+  So that polling costs neither queries, serialization nor bandwidth
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - the ETag of an unchanged resource is answered with 304
+  Scenario: Polling with the current ETag is answered not modified
+    When I poll the "summary" endpoint
+    Then I should receive status code 200 immediately
+    When I note the validators of the response
+    And I poll the "summary" endpoint with the noted ETag
+    Then I should receive status code 304 immediately
+    And the response should have the noted ETag
+    And the response should have no body
+    And 1 more conditional request should have been answered not modified
+
+  # SYNC: A write changes the data version, so the noted ETag no longer matches
+  Scenario: Polling after a write returns the new data
+    When I poll the "financial data" endpoint
+    And I note the validators of the response
+    And I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I poll the "financial data" endpoint with the noted ETag
+    Then I should receive status code 200 immediately
+    And the response should have a different ETag than the noted one
+
+  # SYNC: The final version bump of a rate change follows its listeners, so the new ETag is never given to the old rate
+  Scenario: Polling right after a rate change returns the new rate
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 900000.00    | 4500000.00    | 450000.00        |
+    When I poll the "summary" endpoint
+    And I note the validators of the response
+    And I update exchange rate for currency "EUR" to "0.80"
+    Then the data version should have changed after the rate change of "EUR" was applied
+    When I poll the "summary" endpoint with the noted ETag
+    Then I should receive status code 200 immediately
+    And the response should have a different ETag than the noted one
+    When I request financial data summary
+    Then the summary should contain country "ESP" with capital saved "1125000.00"
+
+  # SYNC: Last-Modified is sent once the second of the last write is over
+  Scenario: Polling with the Last-Modified date is answered not modified
+    When the last write is at least a second old
+    And I poll the "currencies" endpoint
+    Then the response should have a Last-Modified date
+    When I note the validators of the response
+    And I poll the "currencies" endpoint with the noted Last-Modified
+    Then I should receive status code 304 immediately
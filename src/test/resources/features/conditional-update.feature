@@ -0,0 +1,58 @@
+Feature: Conditional Updates with ETag and If-Match
+  As an API client
+  I want updates to apply only to the version I last saw
+  So that concurrent writers cannot silently overwrite each other
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+
+  # SYNC: Happy path - ETag on read, If-Match with the current version
+  Scenario: Update financial data with a matching If-Match
+    When I request financial data for country "ECU"
+    Then I should receive status code 200 immediately
+    And the response should have ETag "\"0\""
+    When I note the ETag of the response
+    And I update financial data for country "ECU" with If-Match "NOTED" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 6000000.00    | 600000.00        |
+    Then I should receive status code 200 immediately
+    And the response should have ETag "\"1\""
+    And the response should contain total in USD "8600000.00"
+
+  # SYNC: Error - stale version is rejected before domain validation
+  Scenario: Reject an update with a stale If-Match
+    When I request financial data for country "ECU"
+    And I note the ETag of the response
+    And I update financial data for country "ECU" with If-Match "NOTED" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 6000000.00    | 600000.00        |
+    Then I should receive status code 200 immediately
+    When I update financial data for country "ECU" with If-Match "NOTED" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 3000000.00   | 7000000.00    | 700000.00        |
+    Then I should receive status code 412 immediately
+    When I request financial data for country "ECU"
+    Then the response should contain total in USD "8600000.00"
+
+  # SYNC: Error - If-Match on data that does not exist
+  Scenario: Reject an update with If-Match when the country has no data
+    Given country exists with code "ESP" and currencyCode "EUR"
+    When I update financial data for country "ESP" with If-Match "*" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 412 immediately
+
+  # SYNC: Happy path and error - exchange rate updates with If-Match
+  Scenario: Update an exchange rate with If-Match
+    When I get currency by code "EUR"
+    Then the response should have ETag "\"0\""
+    When I note the ETag of the response
+    And I update exchange rate for currency "EUR" to "0.95" with If-Match "NOTED"
+    Then I should receive status code 200 immediately
+    And the response should have ETag "\"1\""
+    When I update exchange rate for currency "EUR" to "0.97" with If-Match "NOTED"
+    Then I should receive status code 412 immediately
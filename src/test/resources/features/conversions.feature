@@ -0,0 +1,58 @@
+Feature: Currency Conversions
+  As a finance analyst
+  I want to convert amounts between any two currencies
+  So that I do not have to derive cross rates by hand from the currency list
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and name "US Dollar"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And currency exists with code "PEN" and exchangeRateToBase "3.30"
+
+  # SYNC: Happy path - conversion through the cross rate of two non-base currencies
+  Scenario: Convert an amount between two non-base currencies
+    When I convert "90.00" "EUR" to "PEN"
+    Then I should receive status code 200 immediately
+    And the converted amount should be "330.00"
+
+  # SYNC: Happy path - a rate change rebuilds the cross rates
+  Scenario: Conversions use the new rate after it changes
+    When I convert "100.00" "USD" to "EUR"
+    Then the converted amount should be "90.00"
+    When I update exchange rate for currency "EUR" to "0.80"
+    And I convert "100.00" "USD" to "EUR"
+    Then the converted amount should be "80.00"
+
+  # SYNC: Edge case - conversions to the base currency round half cents like the summary
+  Scenario: Convert a half cent to the base currency
+    Given currency exists with code "MXN" and exchangeRateToBase "12"
+    When I convert "0.06" "MXN" to "USD"
+    Then I should receive status code 200 immediately
+    And the converted amount should be "0.01"
+
+  # SYNC: Happy path - thousands of amounts in one call
+  Scenario: Convert amounts in batch
+    When I convert 5000 amounts of "90.00" from "EUR" to "PEN" in one batch
+    Then I should receive status code 200 immediately
+    And the batch should contain 5000 converted amounts of "330.00"
+
+  # SYNC: Error - unknown currency
+  Scenario: Fail to convert to a currency that does not exist
+    When I convert "10.00" "EUR" to "ZZZ"
+    Then I should receive status code 404 immediately
+
+  # SYNC: Error - a deleted currency is no longer convertible
+  Scenario: Fail to convert a currency that was deleted
+    Given currency exists with code "GBP" and exchangeRateToBase "0.75"
+    When I convert "10.00" "GBP" to "USD"
+    Then I should receive status code 200 immediately
+    When I delete currency with code "GBP"
+    And I convert "10.00" "GBP" to "USD"
+    Then I should receive status code 404 immediately
+    When I convert "10.00" "EUR" to "GBP"
+    Then I should receive status code 404 immediately
+
+  # SYNC: Error - batch over the size limit
+  Scenario: Fail to convert a batch over the size limit
+    When I convert 10001 amounts of "1.00" from "EUR" to "PEN" in one batch
+    Then I should receive status code 400 immediately
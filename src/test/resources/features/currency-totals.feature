@@ -0,0 +1,46 @@
+Feature: Per-Currency Totals
+  As a financial administrator
+  I want the summary computed from totals kept per currency
+  So that reading it costs the same however many countries report
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And country exists with code "ECU" and currencyCode "USD"
+    And country exists with code "ESP" and currencyCode "EUR"
+
+  # SYNC: Happy path - totals follow creates, updates and deletes
+  Scenario: Summary by currency follows every write
+    When I bulk create financial data as "json" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ECU         | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+      | ESP         | EUR          | 900000.00    | 1800000.00    | 90000.00         |
+    And I request the financial data summary by currency
+    Then I should receive status code 200 immediately
+    And the summary by currency should list 2 currencies
+    And currency "EUR" in the summary by currency should have 1 countries and capital saved "1000000.00"
+    And the summary by currency should have a grand total of "9600000.00"
+    And the request should issue at most 1 SQL statement
+    When I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I delete financial data for country "ESP"
+    And I request the financial data summary by currency
+    Then the summary by currency should list 1 currencies
+    And currency "USD" in the summary by currency should have 1 countries and capital saved "2000000.00"
+    And the currency totals should match the financial data
+
+  # SYNC: Happy path - a CSV import replacing existing data keeps the totals exact
+  Scenario: CSV import keeps the totals current
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1.00         | 1.00          | 1.00             |
+    When I import financial data from CSV:
+      """
+      countryCode,currencyCode,capitalSaved,capitalLoaned,profitsGenerated
+      ECU,USD,1000000.00,5000000.00,500000.00
+      ESP,EUR,900000.00,1800000.00,90000.00
+      """
+    Then I should receive status code 200 immediately
+    And the currency totals should match the financial data
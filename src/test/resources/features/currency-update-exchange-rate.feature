@@ -56,3 +56,14 @@ Feature: Update Currency Exchange Rate
     Then I should receive status code 200 immediately
     And the response should contain exchangeRateToBase "0.90"
 
+  # SYNC: Edge case - Cached currency is invalidated by the rate update
+  Scenario: Read the new exchange rate after it was updated
+    Given the API is running
+    And currency exists with code "USD" and name "US Dollar"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    When I get currency by code "EUR"
+    Then the response should contain exchangeRateToBase "0.90"
+    When I update exchange rate for currency "EUR" to "0.95"
+    And I get currency by code "EUR"
+    Then I should receive status code 200 immediately
+    And the response should contain exchangeRateToBase "0.95"
@@ -0,0 +1,52 @@
+Feature: Read/Write DataSource Routing
+  As an operator
+  I want read-only requests served by a replica pool
+  So that heavy reads do not compete with writes for primary connections
+
+  Background:
+    Given the API is running
+
+  # SYNC: Happy path - reads go to the replica
+  Scenario: Read-only requests use the replica pool
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And I record the connections routed to the "replica" pool
+    When I request financial data for country "ESP"
+    Then I should receive status code 200 immediately
+    And at least 1 more connections should have been routed to the "replica" pool
+
+  # SYNC: Edge case - a client that just wrote reads its own writes from the primary
+  Scenario: Reads right after a write stay on the primary
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    When I update financial data for country "ESP" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ESP         | EUR          | 2000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 200 immediately
+    Given I record the connections routed to the "replica" pool
+    When I request financial data for country "ESP" with the cookies of the last response
+    Then I should receive status code 200 immediately
+    And the response should contain total in USD "7500000.00"
+    And no more connections should have been routed to the "replica" pool
+
+  # SYNC: Edge case - a response kept in the rendered response cache is read from the primary
+  Scenario: Cached responses are rendered from the primary
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And I record the connections routed to the "replica" pool
+    When I request the financial data summary by currency
+    Then I should receive status code 200 immediately
+    And no more connections should have been routed to the "replica" pool
+
+  # SYNC: Edge case - a response carrying validators is read from the primary
+  Scenario: Responses with validators are read from the primary
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And I record the connections routed to the "replica" pool
+    When I request all financial data
+    Then I should receive status code 200 immediately
+    And no more connections should have been routed to the "replica" pool
@@ -0,0 +1,46 @@
+Feature: Exchange Rate History
+  As a financial analyst
+  I want summaries at the exchange rates of a past point in time
+  So that I can reproduce historical revaluations
+
+  Background:
+    Given the API is running
+
+  # SYNC: Happy path - summary at the rate in effect before an update
+  Scenario: Summary as of a past time uses the exchange rate in effect then
+    Given currency exists with code "USD" and name "US Dollar"
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 900000.00    | 4500000.00    | 450000.00        |
+    And I note the current time
+    And I update exchange rate for currency "EUR" to "0.80"
+    When I request financial data summary as of the noted time
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "1000000.00"
+    And the summary should contain total capital saved "1000000.00"
+    When I request financial data summary
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "1125000.00"
+
+  # SYNC: Happy path - base currency needs no history
+  Scenario: Summary as of a past time keeps base currency amounts
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    When I request financial data summary as of "2000-01-01T00:00:00"
+    Then I should receive status code 200 immediately
+    And the summary should contain total capital saved "1000000.00"
+
+  # SYNC: Error - no rate in effect at the requested time
+  Scenario: Fail to get a summary before the currency had a rate
+    Given currency exists with code "USD" and name "US Dollar"
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 900000.00    | 4500000.00    | 450000.00        |
+    When I request financial data summary as of "2000-01-01T00:00:00"
+    Then I should receive status code 400 immediately
+
+  # SYNC: Error - malformed point in time
+  Scenario: Fail to get a summary with a malformed point in time
+    When I request financial data summary as of "yesterday"
+    Then I should receive status code 400 immediately
@@ -0,0 +1,36 @@
+Feature: Exchange Rate Table
+  As a platform operator
+  I want conversions to read one immutable, versioned snapshot of the exchange rates
+  So that a computation never mixes rates of different moments and reading rates takes no lock
+
+  # SYNC: A committed rate change publishes a new snapshot before the summary is re-converted
+  Scenario: A rate change publishes a new exchange rate table
+    Given the API is running
+    And currency exists with code "USD" and name "US Dollar"
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 90.00        | 0             | 0                |
+    When I note the exchange rate table version
+    And I update exchange rate for currency "EUR" to "0.80"
+    Then I should receive status code 200 immediately
+    And the exchange rate table version should have advanced
+    And the exchange rate table should hold rate "0.80" for currency "EUR"
+    When I request financial data summary
+    Then the summary should contain country "ESP" with capital saved "112.50"
+
+  # SYNC: Deleting a currency publishes a new snapshot without it
+  Scenario: Deleting a currency removes it from the exchange rate table
+    Given the API is running
+    And currency exists with code "USD" and name "US Dollar"
+    And currency exists with code "GBP" and exchangeRateToBase "0.75"
+    And the exchange rate table should hold rate "0.75" for currency "GBP"
+    When I note the exchange rate table version
+    And I delete currency with code "GBP"
+    Then I should receive status code 204 immediately
+    And the exchange rate table version should have advanced
+    And the exchange rate table should not hold currency "GBP"
+
+  # SYNC: Property - packed codes in the primitive table never collide or go missing
+  Scenario: Every currency code is found in the table
+    When I build an exchange rate table of every other three-letter code
+    Then every code should be found with its own rate and no other code should be found
@@ -0,0 +1,50 @@
+Feature: Bulk Create Financial Data Records
+  As a financial administrator
+  I want to load many financial data records in one request
+  So that nightly loads do not need one call per country
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And country exists with code "ECU" and currencyCode "USD"
+    And country exists with code "ESP" and currencyCode "EUR"
+
+  # SYNC: Happy path - JSON array with valid and invalid rows
+  Scenario: Bulk create financial data from a JSON array
+    When I bulk create financial data as "json" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ECU         | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+      | ESP         | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+      | ESP         | EUR          | 2000000.00   | 6000000.00    | 600000.00        |
+      | NPL         | NPR          | 1000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 200 immediately
+    And the batch should report 4 received, 2 created and 2 rejected
+    And batch row 0 should be "CREATED"
+    And batch row 1 should be "CREATED"
+    And batch row 2 should be "REJECTED"
+    And batch row 3 should be "REJECTED"
+    When I request all financial data
+    Then the response should be a list with 2 items
+
+  # SYNC: Happy path - NDJSON stream
+  Scenario: Bulk create financial data from an NDJSON stream
+    When I bulk create financial data as "ndjson" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ECU         | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+      | ESP         | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 200 immediately
+    And the batch should report 2 received, 1 created and 1 rejected
+    And batch row 1 should be "REJECTED"
+
+  # SYNC: Error - row rejected when data already exists
+  Scenario: Reject rows for countries that already have financial data
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    When I bulk create financial data as "json" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ECU         | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 200 immediately
+    And the batch should report 1 received, 0 created and 1 rejected
+    And batch row 0 should be "REJECTED"
@@ -0,0 +1,54 @@
+Feature: Export Financial Data
+  As a financial analyst
+  I want to download all financial data records in one file
+  So that I can load them into spreadsheets and reporting tools
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And country exists with code "ECU" and currencyCode "USD"
+    And country exists with code "ESP" and currencyCode "EUR"
+    When I bulk create financial data as "json" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ESP         | EUR          | 900000.00    | 1800000.00    | 90000.00         |
+      | ECU         | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - CSV ordered by country code
+  Scenario: Export financial data as CSV
+    When I export financial data as "csv"
+    Then I should receive status code 200 immediately
+    And the export content type should be "text/csv"
+    And the export should have 3 lines
+    And export line 0 should be "countryCode,countryName,currencyCode,capitalSaved,capitalLoaned,profitsGenerated"
+    And export line 1 should be "ECU,Ecuador,USD,1000000.00,5000000.00,500000.00"
+    And export line 2 should be "ESP,España,EUR,900000.00,1800000.00,90000.00"
+
+  # SYNC: Happy path - CSV with USD conversion columns
+  Scenario: Export financial data as CSV with USD columns
+    When I export financial data as "csv" with USD columns
+    Then I should receive status code 200 immediately
+    And export line 0 should be "countryCode,countryName,currencyCode,capitalSaved,capitalLoaned,profitsGenerated,capitalSavedUSD,capitalLoanedUSD,profitsGeneratedUSD"
+    And export line 2 should be "ESP,España,EUR,900000.00,1800000.00,90000.00,1000000.00,2000000.00,100000.00"
+
+  # SYNC: Happy path - NDJSON
+  Scenario: Export financial data as NDJSON
+    When I export financial data as "ndjson" with USD columns
+    Then I should receive status code 200 immediately
+    And the export content type should be "application/x-ndjson"
+    And the export should have 2 lines
+    And export record 1 should have "countryCode" equal to "ESP"
+    And export record 1 should have "capitalSaved" equal to "900000.00"
+    And export record 1 should have "capitalSavedUSD" equal to "1000000.00"
+
+  # SYNC: Happy path - gzip negotiated with Accept-Encoding
+  Scenario: Export financial data compressed with gzip
+    When I export financial data as "csv" accepting gzip
+    Then I should receive status code 200 immediately
+    And the export should be gzip encoded
+    And the export should have 3 lines
+
+  # SYNC: Error - unsupported format
+  Scenario: Fail to export financial data in an unsupported format
+    When I export financial data as "xml"
+    Then I should receive status code 400 immediately
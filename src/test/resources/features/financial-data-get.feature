@@ -25,6 +25,50 @@ Feature: Get Financial Data Records
     And the list should contain country code "ECU"
     And the list should contain country code "ESP"
 
+  # SYNC: Happy path - GET all with keyset pagination
+  Scenario: Successfully page through financial data with a cursor
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "PER" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | PEN          | 3300000.00   | 16500000.00   | 1650000.00       |
+    When I request financial data with limit 2
+    Then I should receive status code 200 immediately
+    And the list should contain country codes in order "ECU,ESP"
+    And the page should have a next cursor
+    When I request the next page of financial data with limit 2
+    Then I should receive status code 200 immediately
+    And the list should contain country codes in order "PER"
+    And the page should not have a next cursor
+
+  # SYNC: Happy path - GET all filtered by currency and amount range
+  Scenario: Successfully filter financial data by currency and amount range
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "PER" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | PEN          | 3300000.00   | 16500000.00   | 1650000.00       |
+    When I request financial data with query "currencyCode=PEN"
+    Then I should receive status code 200 immediately
+    And the list should contain country codes in order "PER"
+    When I request financial data with query "minCapitalSaved=2000000&maxCapitalLoaned=20000000"
+    Then I should receive status code 200 immediately
+    And the list should contain country codes in order "PER"
+
+  # SYNC: Error - GET all with a malformed cursor
+  Scenario: Fail to get financial data with an invalid cursor
+    Given the API is running
+    When I request financial data with query "after=not-a-cursor"
+    Then I should receive status code 400 immediately
+    And the response should contain error message about invalid pagination cursor
+
   # SYNC: Happy path - GET by country code (exists)
   Scenario: Successfully get financial data by country code
     Given the API is running
@@ -119,4 +163,64 @@ Feature: Get Financial Data Records
       | NPR          | 133000000.00 | 665000000.00  | 66500000.00      |
     When I request financial data summary
     Then I should receive status code 200 immediately
-    And the summary should contain 4 countries
\ No newline at end of file
+    And the summary should contain 4 countries
+
+  # SYNC: Edge case - SQL summary engine rounds exactly like the Java conversion
+  Scenario: SQL summary engine matches the Java summary computation
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And currency exists with code "GBP" and exchangeRateToBase "0.40"
+    And currency exists with code "JPY" and exchangeRateToBase "149.3712345678"
+    And country exists with code "ECU" and currencyCode "USD"
+    And country exists with code "ESP" and currencyCode "EUR"
+    And country exists with code "GBR" and currencyCode "GBP"
+    And country exists with code "JPN" and currencyCode "JPY"
+    When I bulk create financial data as "json" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ECU         | USD          | 1000000.00   | 0.00          | 0.01             |
+      | ESP         | EUR          | 1000000.00   | 5000000.00    | 0.05             |
+      | GBR         | GBP          | 0.05         | 12345.67      | 0.00             |
+      | JPN         | JPY          | 987654321.99 | 0.74          | 149.37           |
+    Then the SQL summary engine should return the same summary as the Java summary engine
+    When I request financial data summary
+    Then I should receive status code 200 immediately
+    And the summary should contain 4 countries
+    And the summary should contain country "GBR" with capital saved "0.13"
+
+  # SYNC: Edge case - in-memory summary follows creates, updates, deletes and rate changes
+  Scenario: Summary reflects every committed change without a full recomputation
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "PER" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | PEN          | 3300000.00   | 16500000.00   | 1650000.00       |
+    When I update financial data for country "ESP" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ESP         | EUR          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I delete financial data for country "PER"
+    And I update exchange rate for currency "EUR" to "0.80"
+    And I request financial data summary
+    Then I should receive status code 200 immediately
+    And the summary should contain 2 countries
+    And the summary should contain country "ESP" with capital saved "2500000.00"
+    And the summary should contain total capital saved "3500000.00"
+    And the in-memory summary should be consistent with a full rebuild
+
+  # SYNC: Edge case - reference data lookups are served from the cache
+  Scenario: Repeated lookups reuse cached countries
+    Given the API is running
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    And I request financial data for country "ESP"
+    And I record the hits of the "countries" cache
+    When I request financial data for country "ESP"
+    And I request financial data for country "ESP"
+    Then I should receive status code 200 immediately
+    And the "countries" cache should have served at least 2 more hits
@@ -0,0 +1,59 @@
+Feature: Financial Data History
+  As a financial analyst
+  I want monthly snapshots of financial data
+  So that I can follow how each country evolves over time
+
+  Background:
+    Given the API is running
+
+  # SYNC: Happy path - create and update keep one snapshot for the month
+  Scenario: Updates overwrite the snapshot of the current month
+    Given financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+    When I update financial data for country "ESP" with:
+      | countryCode | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | ESP         | EUR          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I request financial data history of country "ESP" from "CURRENT_MONTH" to "CURRENT_MONTH"
+    Then I should receive status code 200 immediately
+    And the history should contain 1 snapshots
+    And snapshot 0 should be for country "ESP" in the current month with capital saved "2000000.00"
+
+  # SYNC: Happy path - period range across countries
+  Scenario: Get the history of every country in a period range
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 3000000.00   | 5000000.00    | 500000.00        |
+    When I request financial data history from "CURRENT_MONTH" to "CURRENT_MONTH"
+    Then I should receive status code 200 immediately
+    And the history should contain 2 snapshots
+    And snapshot 0 should be for country "ECU" in the current month with capital saved "1000000.00"
+    And snapshot 1 should be for country "ESP" in the current month with capital saved "3000000.00"
+    When I request financial data history from "PREVIOUS_YEAR_START" to "PREVIOUS_YEAR_END"
+    Then I should receive status code 200 immediately
+    And the history should contain 0 snapshots
+
+  # SYNC: Happy path - latest snapshot per country
+  Scenario: Get the latest snapshot of every country
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 3000000.00   | 5000000.00    | 500000.00        |
+    When I request the latest financial data snapshots
+    Then I should receive status code 200 immediately
+    And the history should contain 2 snapshots
+
+  # SYNC: Error - from period after to period
+  Scenario: Fail to get history with an inverted period range
+    When I request financial data history from "2025-06" to "2025-01"
+    Then I should receive status code 400 immediately
+
+  # SYNC: Error - malformed period
+  Scenario: Fail to get history with a malformed period
+    When I request financial data history from "2025-13" to "2025-14"
+    Then I should receive status code 400 immediately
@@ -0,0 +1,67 @@
+Feature: Import Financial Data from CSV
+  As a financial administrator
+  I want to upload a CSV file with the data of many countries
+  So that seeding and nightly loads do not need hand-written SQL or one call per country
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And currency exists with code "EUR" and exchangeRateToBase "0.90"
+    And country exists with code "ECU" and currencyCode "USD"
+    And country exists with code "ESP" and currencyCode "EUR"
+
+  # SYNC: Happy path - valid and invalid rows in one file
+  Scenario: Import financial data from a CSV file
+    When I import financial data from CSV:
+      """
+      countryCode,currencyCode,capitalSaved,capitalLoaned,profitsGenerated
+      ECU,USD,1000000.00,5000000.00,500000.00
+      ESP,EUR,900000.00,1800000.00,90000.00
+      NPL,NPR,1000000.00,5000000.00,500000.00
+      ESP,EUR,1.00,1.00,1.00
+      ECU,EUR,1.00,1.00,1.00
+      """
+    Then I should receive status code 200 immediately
+    And the import should report 5 received, 2 imported and 3 rejected
+    And import row 3 should be rejected with message containing "Country not found with code: NPL"
+    And import row 4 should be rejected with message containing "Duplicate country in file: ESP"
+    And import row 5 should be rejected with message containing "does not match country ECU"
+    When I request financial data summary
+    Then the summary should contain country "ESP" with capital saved "1000000.00"
+
+  # SYNC: Happy path - existing data is replaced, columns in any order, extra columns ignored
+  Scenario: Import replaces existing data and ignores unknown columns
+    Given financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1.00         | 1.00          | 1.00             |
+    When I import financial data from CSV:
+      """
+      countryName,profitsGenerated,countryCode,capitalLoaned,currencyCode,capitalSaved
+      "Ecuador, República del",500000.00,ECU,5000000.00,USD,1000000.00
+      """
+    Then I should receive status code 200 immediately
+    And the import should report 1 received, 1 imported and 0 rejected
+    When I request financial data for country "ECU"
+    Then the response should contain total in USD "6500000.00"
+
+  # SYNC: Error - invalid amounts are rejected per row
+  Scenario: Reject rows with invalid amounts
+    When I import financial data from CSV:
+      """
+      countryCode,currencyCode,capitalSaved,capitalLoaned,profitsGenerated
+      ECU,USD,-1.00,5000000.00,500000.00
+      ESP,EUR,abc,1800000.00,90000.00
+      """
+    Then I should receive status code 200 immediately
+    And the import should report 2 received, 0 imported and 2 rejected
+    And import row 1 should be rejected with message containing "Capital saved must be a non-negative amount"
+    And import row 2 should be rejected with message containing "Capital saved must be a non-negative amount"
+
+  # SYNC: Error - header without a required column
+  Scenario: Fail to import a CSV file without a required column
+    When I import financial data from CSV:
+      """
+      countryCode,currencyCode,capitalSaved,capitalLoaned
+      ECU,USD,1000000.00,5000000.00
+      """
+    Then I should receive status code 400 immediately
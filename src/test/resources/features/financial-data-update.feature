@@ -120,4 +120,20 @@ Feature: Update Financial Data Record
       | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
       | USD          | 2000000.00   | 6000000.00    | 600000.00        |
     Then I should receive status code 400 immediately
-    And the response should contain error message about invalid country code
\ No newline at end of file
+    And the response should contain error message about invalid country code
+
+  # SYNC: Happy path - PUT creates the data when the country has none yet
+  Scenario: Create financial data through PUT, then replace it
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+    And country exists with code "ECU" and currencyCode "USD"
+    When I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 201 immediately
+    And the response should contain total in USD "6500000.00"
+    When I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    Then I should receive status code 200 immediately
+    And the response should contain total in USD "7500000.00"
@@ -0,0 +1,37 @@
+Feature: Fixed-Point Money
+  As a platform operator
+  I want amounts converted and totalled in long minor units
+  So that the summary avoids BigDecimal arithmetic without changing a single result
+
+  # SYNC: Property - fixed-point conversion rounds exactly like BigDecimal division, half up
+  Scenario Outline: Conversions match BigDecimal over the whole amount range
+    When I convert 20000 random amounts at random exchange rates with seed <seed>
+    Then every fixed-point result should equal the BigDecimal result
+    And at least 50% of the conversions should have been computed in fixed point
+
+    Examples:
+      | seed |
+      | 1    |
+      | 42   |
+      | 2026 |
+
+  # SYNC: Property - sums in minor units match BigDecimal sums and overflow is detected
+  Scenario: Sums match BigDecimal and overflow is reported
+    When I add 10000 random amounts in minor units with seed 7
+    Then every fixed-point result should equal the BigDecimal result
+    And adding 1 minor unit to the largest amount should overflow
+
+  # SYNC: Summary amounts go through the fixed-point conversion
+  Scenario: Summary amounts are converted in fixed point
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 0             | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 100.00       | 0             | 0.01             |
+    When I request financial data summary
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "111.11"
+    And the summary should contain total capital saved "1000111.11"
+    And the summary should contain total capital loaned "0.00"
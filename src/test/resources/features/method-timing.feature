@@ -0,0 +1,31 @@
+Feature: Method Timing
+  As an operator
+  I want the latency of every service and repository method as a histogram
+  So that I can watch p99 per operation under load
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - the service and the repository adapter it calls are both timed
+  Scenario: A request is timed in the service and in the repository
+    Given I record the timed calls of "FinancialDataService" method "findByCountryCode" with outcome "SUCCESS"
+    And I record the timed calls of "JpaFinancialDataRepository" method "findByCountryCode" with outcome "SUCCESS"
+    When I request financial data for country "ECU"
+    Then I should receive status code 200 immediately
+    And "FinancialDataService" method "findByCountryCode" should have been timed at least 1 more time with outcome "SUCCESS"
+    And "JpaFinancialDataRepository" method "findByCountryCode" should have been timed at least 1 more time with outcome "SUCCESS"
+
+  # SYNC: Error - a rejected call is timed under its own outcome
+  Scenario: A failing call is timed as a client error
+    Given I record the timed calls of "FinancialDataService" method "findByCountryCode" with outcome "CLIENT_ERROR"
+    When I request financial data for country "ZZZ"
+    Then I should receive status code 404 immediately
+    And "FinancialDataService" method "findByCountryCode" should have been timed at least 1 more time with outcome "CLIENT_ERROR"
+
+  # SYNC: Happy path - the configured SLO is one of the histogram buckets
+  Scenario: Service timers publish the configured SLO buckets
+    When I request financial data for country "ECU"
+    Then the timer of "FinancialDataService" method "findByCountryCode" should have a bucket at "100ms"
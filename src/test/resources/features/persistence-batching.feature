@@ -0,0 +1,14 @@
+Feature: Batched Inserts
+  As a platform operator
+  I want bulk saves to be sent as JDBC batches
+  So that loading many rows does not cost one round trip per row
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and exchangeRateToBase "1.00"
+
+  # SYNC: 1,000 inserts = 20 batches of 50 plus one sequence call per block of 50 ids
+  Scenario: Saving 1,000 rows uses pooled ids and batched inserts
+    When I save 1000 countries with currency "USD" in one transaction
+    Then 1000 rows should have been inserted
+    And at most 50 JDBC statements should have been prepared
@@ -0,0 +1,39 @@
+Feature: Request Coalescing
+  As a platform operator
+  I want concurrent identical summary and listing requests to share one computation
+  So that a fleet of dashboards refreshing at once does not multiply the database load
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - a stampede of identical requests gets identical answers
+  Scenario: Concurrent summary requests share in-flight computations
+    When 20 clients request the financial data summary at the same time
+    Then all 20 summary responses should have status 200 and the same grand total
+    And 20 summary calls should have been executed or coalesced
+
+  # SYNC: Nothing is cached - a request after a write sees the write
+  Scenario: A summary requested after a write reflects it
+    When I request financial data summary
+    Then the summary should contain country "ECU" with capital saved "1000000.00"
+    When I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I request financial data summary
+    Then the summary should contain country "ECU" with capital saved "2000000.00"
+
+  # SYNC: Read-your-writes - requests pinned to the primary never join a replica read
+  Scenario: Pinned and unpinned requests do not share a computation
+    Given I record the connections routed to the "primary" pool
+    And I record the connections routed to the "replica" pool
+    When 5 pinned and 5 unpinned callers list financial data at the same time
+    Then all 10 pages should list the same 2 records
+    And at least 2 page computations should have been executed
+    And at least 1 more connections should have been routed to the "primary" pool
+    And at least 1 more connections should have been routed to the "replica" pool
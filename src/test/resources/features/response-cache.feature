@@ -0,0 +1,32 @@
+Feature: Rendered Response Cache
+  As a platform operator
+  I want the hottest read endpoints served from their rendered JSON
+  So that repeated reads do not serialize the same response again
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Happy path - repeated reads hit the cache until a write changes the data version
+  Scenario: Summary is served from the cache until the next write
+    When I request financial data summary
+    And I note the response cache hits
+    And I request financial data summary
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ECU" with capital saved "1000000.00"
+    And the response cache should have served 1 more hit
+    When I update financial data for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 2000000.00   | 5000000.00    | 500000.00        |
+    And I note the response cache hits
+    And I request financial data summary
+    Then the summary should contain country "ECU" with capital saved "2000000.00"
+    And the response cache should have served 0 more hits
+
+  # SYNC: Happy path - clients accepting gzip get the precompressed variant
+  Scenario: Cached responses are served gzip encoded
+    When I list all currencies
+    And I list all currencies accepting gzip
+    Then the response should be gzip encoded JSON containing "USD"
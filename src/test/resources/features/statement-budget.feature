@@ -0,0 +1,39 @@
+Feature: SQL Statement Budgets
+  As a platform operator
+  I want every endpoint held to a budget of SQL statements per request
+  So that N+1 query patterns are caught before they reach production
+
+  Background:
+    Given the API is running
+    And financial data exists for country "ECU" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | USD          | 1000000.00   | 5000000.00    | 500000.00        |
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 1000000.00   | 5000000.00    | 500000.00        |
+
+  # SYNC: Reads load rows with their country and currency in one statement
+  Scenario: Reads stay within their statement budgets
+    When I request financial data summary
+    Then the request should issue at most 1 SQL statement
+    And the request should stay within the statement budget of "GET /api/v1/financial-data/summary"
+    When I request financial data for country "ECU"
+    Then the request should issue at most 2 SQL statements
+    And the request should stay within the statement budget of "GET /api/v1/financial-data/{countryCode}"
+    When I request all financial data
+    Then the request should issue at most 1 SQL statement
+    And the request should stay within the statement budget of "GET /api/v1/financial-data"
+
+  # SYNC: Deletes lock the row, delete it and adjust the currency totals, without loading entities
+  Scenario: Deletes stay within their statement budgets
+    When I delete financial data for country "ECU"
+    Then the request should issue at most 4 SQL statements
+    And the request should stay within the statement budget of "DELETE /api/v1/financial-data/{countryCode}"
+    When I delete country with code "ECU"
+    Then the request should issue at most 3 SQL statements
+    And the request should stay within the statement budget of "DELETE /api/v1/countries/{code}"
+
+  # SYNC: The test profile gives this endpoint a budget of 0
+  Scenario: A request over its budget is reported
+    When I request the latest financial data snapshots
+    Then the request should be reported over the statement budget of "GET /api/v1/financial-data/history/latest"
@@ -0,0 +1,84 @@
+Feature: Summary in Any Currency
+  As a finance analyst
+  I want the consolidated summary in any configured currency
+  So that I can report to stakeholders who do not work in USD
+
+  Background:
+    Given the API is running
+    And currency exists with code "USD" and name "US Dollar"
+    And financial data exists for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 900000.00    | 4500000.00    | 450000.00        |
+    And financial data exists for country "PER" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | PEN          | 3300000.00   | 16500000.00   | 1650000.00       |
+
+  # SYNC: Happy path - every amount converted to the requested currency
+  Scenario: Get the summary in a non-base currency
+    When I request financial data summary in "EUR"
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "900000.00"
+    And the summary should contain country "PER" with capital saved "900000.00"
+    And the summary should contain total capital saved "1800000.00"
+    And the summary should contain total capital loaned "9000000.00"
+
+  # SYNC: Happy path - the base currency gives the USD summary
+  Scenario: Get the summary in the base currency
+    When I request financial data summary in "USD"
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "1000000.00"
+    And the summary should contain total capital saved "2000000.00"
+
+  # SYNC: Happy path - a rate change of a source currency reaches cached summaries
+  Scenario: Summary in a currency follows a rate change of another currency
+    When I request financial data summary in "EUR"
+    Then the summary should contain country "PER" with capital saved "900000.00"
+    When I update exchange rate for currency "PEN" to "1.65"
+    And I request financial data summary in "EUR"
+    Then I should receive status code 200 immediately
+    And the summary should contain country "ESP" with capital saved "900000.00"
+    And the summary should contain country "PER" with capital saved "1800000.00"
+    And the summary should contain total capital saved "2700000.00"
+
+  # SYNC: Happy path - a rate change of the target currency reaches its cached summary
+  Scenario: Summary in a currency follows a rate change of that currency
+    When I request financial data summary in "PEN"
+    Then the summary should contain country "ESP" with capital saved "3300000.00"
+    When I update exchange rate for currency "PEN" to "1.65"
+    And I request financial data summary in "PEN"
+    Then the summary should contain country "ESP" with capital saved "1650000.00"
+    And the summary should contain country "PER" with capital saved "3300000.00"
+
+  # SYNC: Happy path - a financial data change reaches cached summaries
+  Scenario: Summary in a currency follows a financial data update
+    When I request financial data summary in "EUR"
+    Then the summary should contain country "ESP" with capital saved "900000.00"
+    When I update financial data for country "ESP" with:
+      | currencyCode | capitalSaved | capitalLoaned | profitsGenerated |
+      | EUR          | 450000.00    | 4500000.00    | 450000.00        |
+    And I request financial data summary in "EUR"
+    Then the summary should contain country "ESP" with capital saved "450000.00"
+    And the summary should contain total capital saved "1350000.00"
+
+  # SYNC: Error - unknown currency
+  Scenario: Fail to get the summary in a currency that does not exist
+    When I request financial data summary in "ZZZ"
+    Then I should receive status code 404 immediately
+
+  # SYNC: Error - a deleted currency is no longer a target, and its cached summary is dropped
+  Scenario: Fail to get the summary in a currency that was deleted
+    Given currency exists with code "GBP" and exchangeRateToBase "0.75"
+    When I request financial data summary in "GBP"
+    Then I should receive status code 200 immediately
+    When I request financial data summary in "EUR"
+    And I note the number of cached summaries by target currency
+    And I delete currency with code "GBP"
+    Then I should receive status code 204 immediately
+    And 1 fewer summaries by target currency should be cached
+    When I request financial data summary in "GBP"
+    Then I should receive status code 404 immediately
+
+  # SYNC: Error - point in time only in the base currency
+  Scenario: Fail to get a past summary in a non-base currency
+    When I request financial data summary in "EUR" as of "2026-01-01T00:00:00"
+    Then I should receive status code 400 immediately